@@ -1,4 +1,4 @@
-import type { Task, Context, User, GoogleCalendarEvent } from '../types';
+import type { Task, TaskPage, Context, User, GoogleCalendarEvent } from '../types';
 
 const API_BASE_URL = 'http://localhost:8090/api';
 
@@ -40,8 +40,13 @@ export const contextApi = {
       method: 'PUT',
       body: JSON.stringify(data),
     }),
-  delete: (id: number) =>
-    apiCall<void>(`/contexts/${id}`, { method: 'DELETE' }),
+  delete: (id: number, options?: { cascade?: boolean; reassignTo?: number }) => {
+    const params = new URLSearchParams();
+    if (options?.cascade) params.append('cascade', 'true');
+    if (options?.reassignTo != null) params.append('reassignTo', String(options.reassignTo));
+    const query = params.toString();
+    return apiCall<void>(`/contexts/${id}${query ? `?${query}` : ''}`, { method: 'DELETE' });
+  },
 };
 
 // Task API
@@ -51,6 +56,13 @@ export const taskApi = {
   getArchived: () => apiCall<Task[]>('/tasks?filter=archived'),
   getByContext: (contextId: number) =>
     apiCall<Task[]>(`/tasks?contextId=${contextId}`),
+  getPage: (filter: 'active' | 'archived' | undefined, limit: number, after?: number | null) => {
+    const params = new URLSearchParams();
+    if (filter) params.append('filter', filter);
+    params.append('limit', String(limit));
+    if (after != null) params.append('after', String(after));
+    return apiCall<TaskPage>(`/tasks?${params.toString()}`);
+  },
   getById: (id: number) => apiCall<Task>(`/tasks/${id}`),
   create: (data: Omit<Task, 'id'>) =>
     apiCall<Task>('/tasks', {
@@ -15,11 +15,20 @@ export interface Task {
   googleEventId?: string;
 }
 
+export interface TaskPage {
+  items: Task[];
+  nextCursor: number | null;
+}
+
 export interface Context {
   id: number;
   namespace: string;
   description: string;
   color?: string;
+  pendingCount?: number;
+  executingCount?: number;
+  doneCount?: number;
+  killedCount?: number;
 }
 
 export interface User {
@@ -33,6 +42,7 @@ export interface User {
 
 export interface GoogleCalendarEvent {
   id: string;
+  calendarId?: string;
   summary: string;
   description?: string;
   start: string;
@@ -0,0 +1,51 @@
+package com.devzip.commandstack.config;
+
+import com.devzip.commandstack.domain.Task;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시퀀스 정렬
+ * IDENTITY로 생성된 기존 DB에서는 ddl-auto가 시퀀스를 1부터 만들기 때문에,
+ * 스키마 갱신 직후 시퀀스를 기존 최대 id 이후로 옮겨 id 충돌을 막습니다.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+@Slf4j
+public class SequenceInitializer {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void alignSequences() {
+        // 보관된 Task도 같은 시퀀스에서 id를 받았으므로 함께 고려
+        align("(SELECT id FROM tasks UNION ALL SELECT id FROM archived_tasks)", "tasks_seq");
+        align("task_tombstones", "task_tombstones_seq");
+    }
+
+    private void align(String table, String sequence) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table + " t", Long.class);
+        if (maxId == null) {
+            return;
+        }
+
+        Long baseValue = jdbcTemplate.queryForObject(
+                "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = ?",
+                Long.class, sequence.toUpperCase());
+
+        // pooled 옵티마이저는 [nextval - allocationSize + 1, nextval] 구간을 사용
+        int allocationSize = Task.ID_ALLOCATION_SIZE;
+        if (baseValue != null && baseValue - allocationSize + 1 > maxId) {
+            return;
+        }
+
+        long restartWith = maxId + allocationSize + 1;
+        jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + restartWith);
+        log.info("Aligned sequence {} to {} (max id: {})", sequence, restartWith, maxId);
+    }
+}
@@ -3,11 +3,14 @@ package com.devzip.commandstack.controller;
 import com.devzip.commandstack.dto.request.ContextCreateRequest;
 import com.devzip.commandstack.dto.response.ContextResponse;
 import com.devzip.commandstack.service.ContextService;
+import com.devzip.commandstack.service.DataVersion;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -18,6 +21,7 @@ import java.util.List;
 public class ContextController {
 
     private final ContextService contextService;
+    private final DataVersion dataVersion;
 
     @PostMapping
     public ResponseEntity<ContextResponse> createContext(@Valid @RequestBody ContextCreateRequest request) {
@@ -25,10 +29,22 @@ public class ContextController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * Context 목록 조회
+     * If-None-Match가 현재 데이터 버전과 같으면 조회 없이 304로 응답합니다.
+     */
     @GetMapping
-    public ResponseEntity<List<ContextResponse>> getAllContexts() {
+    public ResponseEntity<List<ContextResponse>> getAllContexts(WebRequest webRequest) {
+        String etag = dataVersion.etag();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
         List<ContextResponse> contexts = contextService.getAllContexts();
-        return ResponseEntity.ok(contexts);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(contexts);
     }
 
     @GetMapping("/{id}")
@@ -45,9 +61,16 @@ public class ContextController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Context 삭제
+     * cascade=true: 소속 Task 삭제 / reassignTo: 소속 Task를 다른 Context로 이동
+     */
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteContext(@PathVariable Long id) {
-        contextService.deleteContext(id);
+    public ResponseEntity<Void> deleteContext(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "false") boolean cascade,
+            @RequestParam(required = false) Long reassignTo) {
+        contextService.deleteContext(id, cascade, reassignTo);
         return ResponseEntity.noContent().build();
     }
 }
@@ -0,0 +1,24 @@
+package com.devzip.commandstack.controller;
+
+import com.devzip.commandstack.service.ChangeEventPublisher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/events")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class EventStreamController {
+
+    private final ChangeEventPublisher changeEventPublisher;
+
+    /**
+     * Task / Context 변경 이벤트 구독 (Server-Sent Events)
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream() {
+        return changeEventPublisher.subscribe();
+    }
+}
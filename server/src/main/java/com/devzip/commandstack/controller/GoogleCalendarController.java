@@ -41,12 +41,17 @@ public class GoogleCalendarController {
 
     /**
      * 수동 동기화 트리거
+     * 캘린더 조회가 실패하면(회로 차단 중 포함) 502로 응답합니다.
      */
     @PostMapping("/sync")
     public ResponseEntity<Map<String, String>> syncCalendar() {
         return authService.getCurrentUser()
                 .map(user -> {
-                    googleCalendarService.syncEventsFromGoogle(user);
+                    if (!googleCalendarService.syncEventsFromGoogle(user)) {
+                        log.warn("Manual sync failed for user: {}", user.getEmail());
+                        return ResponseEntity.status(502).body(
+                                Map.of("error", "Sync failed: Google Calendar is unavailable"));
+                    }
                     log.info("Manual sync completed for user: {}", user.getEmail());
                     return ResponseEntity.ok(Map.of("message", "Sync completed"));
                 })
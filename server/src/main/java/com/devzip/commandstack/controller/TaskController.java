@@ -1,16 +1,29 @@
 package com.devzip.commandstack.controller;
 
+import com.devzip.commandstack.dto.request.TaskBatchRequest;
 import com.devzip.commandstack.dto.request.TaskCreateRequest;
 import com.devzip.commandstack.dto.request.TaskUpdateRequest;
 import com.devzip.commandstack.dto.request.StatusUpdateRequest;
+import com.devzip.commandstack.dto.response.TaskBatchResponse;
+import com.devzip.commandstack.dto.response.TaskChangesResponse;
+import com.devzip.commandstack.dto.response.TaskPageResponse;
 import com.devzip.commandstack.dto.response.TaskResponse;
+import com.devzip.commandstack.dto.response.TaskSearchResponse;
+import com.devzip.commandstack.service.DataVersion;
 import com.devzip.commandstack.service.TaskService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -20,6 +33,7 @@ import java.util.List;
 public class TaskController {
 
     private final TaskService taskService;
+    private final DataVersion dataVersion;
 
     @PostMapping
     public ResponseEntity<TaskResponse> createTask(@Valid @RequestBody TaskCreateRequest request) {
@@ -27,10 +41,41 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * 생성/상태 변경/삭제 일괄 처리 (단일 트랜잭션)
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<TaskBatchResponse> applyBatch(@Valid @RequestBody TaskBatchRequest request) {
+        TaskBatchResponse response = taskService.applyBatch(request);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Task 목록 조회
+     * limit 파라미터가 있으면 after 커서 기반 Keyset 페이지({items, nextCursor})로 응답합니다.
+     * If-None-Match가 현재 데이터 버전과 같으면 조회 없이 304로 응답합니다.
+     */
     @GetMapping
-    public ResponseEntity<List<TaskResponse>> getAllTasks(
+    public ResponseEntity<?> getAllTasks(
             @RequestParam(required = false) String filter,
-            @RequestParam(required = false) Long contextId) {
+            @RequestParam(required = false) Long contextId,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Long after,
+            WebRequest webRequest) {
+
+        // 조회 전에 버전을 잡아야 조회 중 커밋된 변경을 놓치지 않음
+        String etag = dataVersion.etag();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        if (limit != null) {
+            TaskPageResponse page = taskService.getTaskPage(filter, contextId, after, limit);
+            return ResponseEntity.ok()
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .body(page);
+        }
 
         List<TaskResponse> commands;
 
@@ -44,7 +89,54 @@ public class TaskController {
             commands = taskService.getAllTasks();
         }
 
-        return ResponseEntity.ok(commands);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(commands);
+    }
+
+    /**
+     * 기간 [start, end]와 겹치는 Task 조회 (타임라인/캘린더)
+     */
+    @GetMapping("/range")
+    public ResponseEntity<List<TaskResponse>> getTasksInRange(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end) {
+        List<TaskResponse> tasks = taskService.getTasksInRange(start, end);
+        return ResponseEntity.ok(tasks);
+    }
+
+    /**
+     * syntax / details 전문 검색
+     */
+    @GetMapping("/search")
+    public ResponseEntity<TaskSearchResponse> searchTasks(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "20") int limit) {
+        TaskSearchResponse response = taskService.searchTasks(q, offset, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * since 커서 이후 변경분(생성/수정/삭제) 조회
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<TaskChangesResponse> getChanges(@RequestParam(required = false) Long since) {
+        TaskChangesResponse response = taskService.getChangesSince(since);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 전체 Task NDJSON 내보내기
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks() {
+        StreamingResponseBody body = taskService::exportTasks;
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks.ndjson\"")
+                .body(body);
     }
 
     @GetMapping("/{id}")
@@ -0,0 +1,68 @@
+package com.devzip.commandstack.domain;
+
+import com.devzip.commandstack.domain.Task.TaskStatus;
+import com.devzip.commandstack.domain.Task.TaskType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관(콜드) 계층의 완료 Task
+ * tasks 테이블과 같은 컬럼에 보관 시각만 더한 형태이며, 원래 id를 그대로 유지합니다.
+ * 행은 TaskArchiveService의 INSERT ... SELECT로만 옮겨집니다.
+ */
+@Entity
+@Table(name = "archived_tasks", indexes = {
+        @Index(name = "idx_archived_tasks_context_id", columnList = "context_id"),
+        @Index(name = "idx_archived_tasks_google_event_id", columnList = "google_event_id"),
+        @Index(name = "idx_archived_tasks_updated_at", columnList = "updated_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedTask {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String syntax;
+
+    @Column(columnDefinition = "TEXT")
+    private String details;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TaskStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TaskType type;
+
+    @Column(nullable = false)
+    private Long contextId;
+
+    private LocalDateTime deadline;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime completedAt;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    private String googleEventId;
+
+    private String googleCalendarId;
+
+    private String googleEtag;
+
+    @Column(nullable = false, columnDefinition = "boolean default false")
+    private boolean syncToGoogle;
+
+    private Long userId;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,96 @@
+package com.devzip.commandstack.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Google Calendar 반영 대기열 (트랜잭셔널 아웃박스)
+ * Task 변경과 같은 트랜잭션에서 기록되고, 백그라운드 워커가 Google에 반영한 뒤 삭제합니다.
+ * 재시도 한도를 넘긴 항목은 DEAD 상태로 남겨 확인할 수 있게 합니다.
+ */
+@Entity
+@Table(name = "calendar_outbox", indexes = {
+        @Index(name = "idx_calendar_outbox_status_next", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_calendar_outbox_task_id", columnList = "task_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class CalendarOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "calendar_outbox_seq")
+    @SequenceGenerator(name = "calendar_outbox_seq", sequenceName = "calendar_outbox_seq",
+            allocationSize = Task.ID_ALLOCATION_SIZE)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long taskId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Operation operation;
+
+    // DELETE는 Task가 이미 지워진 뒤 처리되므로 캘린더/이벤트 id를 직접 보관
+    private String googleCalendarId;
+
+    private String googleEventId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    @Builder.Default
+    private Status status = Status.PENDING;
+
+    @Builder.Default
+    private int attempts = 0;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        if (nextAttemptAt == null) {
+            nextAttemptAt = createdAt;
+        }
+    }
+
+    public void retryLater(String error, LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.lastError = truncate(error);
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public void deadLetter(String error) {
+        this.attempts++;
+        this.lastError = truncate(error);
+        this.status = Status.DEAD;
+    }
+
+    private static String truncate(String error) {
+        return error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+    }
+
+    public enum Operation {
+        CREATE, // Task 내용으로 이벤트 생성 후 googleEventId 연결
+        UPDATE, // 연결된 이벤트를 Task 내용으로 갱신
+        DELETE  // googleEventId 이벤트 삭제
+    }
+
+    public enum Status {
+        PENDING,
+        DEAD
+    }
+}
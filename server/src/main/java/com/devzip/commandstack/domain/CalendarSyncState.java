@@ -0,0 +1,57 @@
+package com.devzip.commandstack.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Google Calendar 증분 동기화 상태 (사용자 + 캘린더별 nextSyncToken)
+ * 토큰이 있으면 다음 동기화는 변경된 이벤트만 요청합니다.
+ * 토큰은 처음 전체 동기화한 범위 안의 변경만 따라가므로, fullSyncedAt 기준으로 주기적으로 전체 동기화를 다시 합니다.
+ */
+@Entity
+@Table(name = "calendar_sync_states", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_calendar_sync_states_user_calendar", columnNames = {"user_id", "calendar_id"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class CalendarSyncState {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private String calendarId;
+
+    // 이 캘린더의 이벤트가 들어가는 Context
+    private Long contextId;
+
+    @Column(length = 1024)
+    private String syncToken;
+
+    private LocalDateTime lastSyncedAt;
+
+    // 마지막 전체(범위) 동기화 시각, 범위가 이동하므로 주기적으로 다시 전체 동기화
+    private LocalDateTime fullSyncedAt;
+
+    public void assignContext(Long contextId) {
+        this.contextId = contextId;
+    }
+
+    public void synced(String syncToken) {
+        this.syncToken = syncToken;
+        this.lastSyncedAt = LocalDateTime.now();
+    }
+
+    public void fullSynced(String syncToken) {
+        synced(syncToken);
+        this.fullSyncedAt = this.lastSyncedAt;
+    }
+}
@@ -0,0 +1,72 @@
+package com.devzip.commandstack.domain;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 델타 동기화 커서 기준 시각
+ * updatedAt/deletedAt은 flush 시점에 찍히지만 행은 커밋 후에야 보이므로, 커서를 현재 시각으로 주면
+ * 찍은 뒤 늦게 커밋된 트랜잭션(대량 applyBatch, 캘린더 동기화 saveAll 등)의 변경을 건너뛸 수 있습니다.
+ * 변경 시각을 찍는 쓰기 트랜잭션은 먼저 markChanging()으로 등록되고 완료(커밋/롤백) 시 해제되며,
+ * cursor()는 진행 중인 쓰기 중 가장 이른 등록 시각을 넘지 않습니다.
+ * 서버 프로세스 하나가 DB를 독점하는 구성(앱 내장 H2)을 전제로 합니다.
+ */
+public final class ChangeWatermark {
+
+    private static final Object RESOURCE_KEY = ChangeWatermark.class;
+    // 등록과 커서 계산을 같은 락으로 직렬화 (커서 계산 직후 등록된 쓰기는 커서 이후 시각을 가짐)
+    private static final Object LOCK = new Object();
+    private static final Set<Mark> inFlight = new HashSet<>();
+
+    private ChangeWatermark() {
+    }
+
+    /**
+     * 현재 트랜잭션을 진행 중인 쓰기로 등록 (변경 시각을 찍기 전에 호출, 트랜잭션당 한 번만 등록)
+     * 트랜잭션 밖이면 아무것도 하지 않습니다.
+     */
+    public static void markChanging() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(RESOURCE_KEY)) {
+            return;
+        }
+
+        Mark mark = new Mark();
+        synchronized (LOCK) {
+            mark.startedAt = System.currentTimeMillis();
+            inFlight.add(mark);
+        }
+        TransactionSynchronizationManager.bindResource(RESOURCE_KEY, mark);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                synchronized (LOCK) {
+                    inFlight.remove(mark);
+                }
+                TransactionSynchronizationManager.unbindResourceIfPossible(RESOURCE_KEY);
+            }
+        });
+    }
+
+    /**
+     * 다음 델타 조회의 기준 (epoch millis)
+     * 이 시각 이전에 찍힌 변경은 모두 커밋(또는 롤백)되었습니다.
+     */
+    public static long cursor() {
+        synchronized (LOCK) {
+            long cursor = System.currentTimeMillis();
+            for (Mark mark : inFlight) {
+                cursor = Math.min(cursor, mark.startedAt);
+            }
+            return cursor;
+        }
+    }
+
+    // 같은 시각에 시작한 트랜잭션도 구분되도록 identity로 비교
+    private static final class Mark {
+        private long startedAt;
+    }
+}
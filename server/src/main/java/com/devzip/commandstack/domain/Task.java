@@ -4,17 +4,37 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        // findByStatus / findByStatusIn / findBy...OrderByDeadlineAsc (status <> ?는 인덱스를 타지 않으므로 IN 사용)
+        @Index(name = "idx_tasks_status_deadline", columnList = "status, deadline"),
+        // findByContextId
+        @Index(name = "idx_tasks_context_status", columnList = "context_id, status"),
+        // findByGoogleEventId (Google 동기화)
+        @Index(name = "idx_tasks_google_event_id", columnList = "google_event_id"),
+        // 델타 동기화 (updatedAt > cursor)
+        @Index(name = "idx_tasks_updated_at", columnList = "updated_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
 public class Task {
 
+    // IDENTITY는 INSERT 배치를 막으므로 pooled 시퀀스 사용 (SequenceInitializer가 기존 DB와 정렬)
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // 완료(EXIT_SUCCESS)가 아닌 상태, 활성 조회는 status <> 대신 IN으로 (status, deadline) 인덱스를 사용
+    public static final Set<TaskStatus> ACTIVE_STATUSES =
+            Collections.unmodifiableSet(EnumSet.complementOf(EnumSet.of(TaskStatus.EXIT_SUCCESS)));
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
@@ -48,6 +68,12 @@ public class Task {
     // Google Calendar 연동 필드
     private String googleEventId;
 
+    // 이벤트가 속한 캘린더 (null이면 primary)
+    private String googleCalendarId;
+
+    // 마지막으로 반영한 Google 이벤트 etag (동기화 시 변경 여부 판단)
+    private String googleEtag;
+
     @Column(nullable = false, columnDefinition = "boolean default false")
     @Builder.Default
     private boolean syncToGoogle = false;
@@ -56,6 +82,7 @@ public class Task {
 
     @PrePersist
     protected void onCreate() {
+        ChangeWatermark.markChanging();
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
         if (status == null) {
@@ -65,6 +92,7 @@ public class Task {
 
     @PreUpdate
     protected void onUpdate() {
+        ChangeWatermark.markChanging();
         updatedAt = LocalDateTime.now();
     }
 
@@ -105,6 +133,14 @@ public class Task {
         this.googleEventId = googleEventId;
     }
 
+    public void setGoogleCalendarId(String googleCalendarId) {
+        this.googleCalendarId = googleCalendarId;
+    }
+
+    public void setGoogleEtag(String googleEtag) {
+        this.googleEtag = googleEtag;
+    }
+
     public void setSyncToGoogle(boolean syncToGoogle) {
         this.syncToGoogle = syncToGoogle;
     }
@@ -0,0 +1,41 @@
+package com.devzip.commandstack.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제된 Task 기록 (델타 동기화용)
+ * Task 행은 즉시 삭제되므로, 클라이언트가 삭제를 알 수 있도록 id와 삭제 시각만 남깁니다.
+ */
+@Entity
+@Table(name = "task_tombstones", indexes = {
+        @Index(name = "idx_task_tombstones_deleted_at", columnList = "deleted_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class TaskTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_tombstones_seq")
+    @SequenceGenerator(name = "task_tombstones_seq", sequenceName = "task_tombstones_seq",
+            allocationSize = Task.ID_ALLOCATION_SIZE)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long taskId;
+
+    @Column(nullable = false)
+    private LocalDateTime deletedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        ChangeWatermark.markChanging();
+        if (deletedAt == null) {
+            deletedAt = LocalDateTime.now();
+        }
+    }
+}
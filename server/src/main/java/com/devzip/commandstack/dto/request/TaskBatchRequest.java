@@ -0,0 +1,50 @@
+package com.devzip.commandstack.dto.request;
+
+import com.devzip.commandstack.domain.Task.TaskStatus;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBatchRequest {
+
+    public static final int MAX_OPERATIONS = 1000;
+
+    @NotEmpty(message = "Operations are required")
+    @Size(max = MAX_OPERATIONS, message = "Too many operations in one batch")
+    @Valid
+    private List<Operation> operations;
+
+    public enum OperationType {
+        CREATE,
+        UPDATE_STATUS,
+        DELETE
+    }
+
+    /**
+     * CREATE: task 필수 / UPDATE_STATUS: id, status 필수 / DELETE: id 필수
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Operation {
+
+        @NotNull(message = "Operation type is required")
+        private OperationType op;
+
+        private Long id;
+
+        @Valid
+        private TaskCreateRequest task;
+
+        private TaskStatus status;
+    }
+}
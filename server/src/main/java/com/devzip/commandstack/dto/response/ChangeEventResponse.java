@@ -0,0 +1,30 @@
+package com.devzip.commandstack.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * SSE로 전달되는 변경 이벤트
+ * entity: task | context, action: created | updated | deleted | resync
+ * 마감 알림(task만): deadline-approaching | overdue (DeadlineScheduler, data에 deadline 포함)
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class ChangeEventResponse {
+
+    public static final String ENTITY_TASK = "task";
+    public static final String ENTITY_CONTEXT = "context";
+
+    public static final String ACTION_CREATED = "created";
+    public static final String ACTION_UPDATED = "updated";
+    public static final String ACTION_DELETED = "deleted";
+    public static final String ACTION_RESYNC = "resync";
+
+    private long seq;
+    private String entity;
+    private String action;
+    private Long id;
+    private Object data;
+}
@@ -1,6 +1,7 @@
 package com.devzip.commandstack.dto.response;
 
 import com.devzip.commandstack.domain.Context;
+import com.devzip.commandstack.domain.Task.TaskStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -14,6 +15,10 @@ public class ContextResponse {
     private String namespace;
     private String description;
     private String color;
+    private long pendingCount;
+    private long executingCount;
+    private long doneCount;
+    private long killedCount;
 
     public static ContextResponse from(Context context) {
         return ContextResponse.builder()
@@ -23,4 +28,20 @@ public class ContextResponse {
                 .color(context.getColor())
                 .build();
     }
+
+    /**
+     * counts: TaskStatus.ordinal() 순 상태별 Task 수
+     */
+    public static ContextResponse from(Context context, long[] counts) {
+        return ContextResponse.builder()
+                .id(context.getId())
+                .namespace(context.getNamespace())
+                .description(context.getDescription())
+                .color(context.getColor())
+                .pendingCount(counts[TaskStatus.PENDING.ordinal()])
+                .executingCount(counts[TaskStatus.EXECUTING.ordinal()])
+                .doneCount(counts[TaskStatus.EXIT_SUCCESS.ordinal()])
+                .killedCount(counts[TaskStatus.SIGKILL.ordinal()])
+                .build();
+    }
 }
@@ -11,6 +11,7 @@ import lombok.NoArgsConstructor;
 @Builder
 public class GoogleCalendarEventResponse {
     private String id;
+    private String calendarId;
     private String summary;
     private String description;
     private String start;
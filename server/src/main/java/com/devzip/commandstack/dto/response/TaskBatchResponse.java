@@ -0,0 +1,17 @@
+package com.devzip.commandstack.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@Builder
+public class TaskBatchResponse {
+
+    private List<TaskResponse> created;
+    private List<TaskResponse> updated;
+    private List<Long> deleted;
+}
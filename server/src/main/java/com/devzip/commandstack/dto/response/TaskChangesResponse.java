@@ -0,0 +1,22 @@
+package com.devzip.commandstack.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 델타 동기화 응답
+ * fullResync가 true이면 updated는 전체 목록이며, 클라이언트는 로컬 상태를 교체해야 합니다.
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class TaskChangesResponse {
+
+    private List<TaskResponse> updated;
+    private List<Long> deleted;
+    private long cursor;
+    private boolean fullResync;
+}
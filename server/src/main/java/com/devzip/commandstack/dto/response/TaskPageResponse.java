@@ -0,0 +1,20 @@
+package com.devzip.commandstack.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Keyset 페이지 응답
+ * nextCursor가 null이면 마지막 페이지입니다.
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class TaskPageResponse {
+
+    private List<TaskResponse> items;
+    private Long nextCursor;
+}
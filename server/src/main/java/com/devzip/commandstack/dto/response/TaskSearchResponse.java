@@ -0,0 +1,21 @@
+package com.devzip.commandstack.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 검색 결과 (점수 내림차순)
+ * nextOffset이 null이면 마지막 페이지입니다.
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class TaskSearchResponse {
+
+    private List<TaskResponse> items;
+    private int total;
+    private Integer nextOffset;
+}
@@ -0,0 +1,103 @@
+package com.devzip.commandstack.repository;
+
+import com.devzip.commandstack.domain.ArchivedTask;
+import com.devzip.commandstack.dto.response.TaskResponse;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Repository
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, Long> {
+
+    String SELECT_TASK_RESPONSE = "select new com.devzip.commandstack.dto.response.TaskResponse("
+            + "a.id, a.syntax, a.details, a.status, a.type, a.contextId, "
+            + "a.deadline, a.startedAt, a.completedAt, a.syncToGoogle, a.googleEventId) "
+            + "from ArchivedTask a ";
+
+    String TASK_COLUMNS = "id, syntax, details, status, type, context_id, deadline, started_at, completed_at, "
+            + "created_at, updated_at, google_event_id, google_calendar_id, google_etag, sync_to_google, user_id";
+
+    @Query("select a.googleEventId from ArchivedTask a where a.googleEventId in :googleEventIds")
+    List<String> findGoogleEventIdsIn(@Param("googleEventIds") Collection<String> googleEventIds);
+
+    @Query(SELECT_TASK_RESPONSE)
+    List<TaskResponse> findAllResponses();
+
+    // Context별 상태 카운터 재계산용 [contextId, status, count]
+    @Query("select a.contextId, a.status, count(a) from ArchivedTask a group by a.contextId, a.status")
+    List<Object[]> countGroupByContextIdAndStatus();
+
+    @Query(SELECT_TASK_RESPONSE + "where a.contextId = :contextId")
+    List<TaskResponse> findResponsesByContextId(@Param("contextId") Long contextId);
+
+    @Query(SELECT_TASK_RESPONSE + "where a.id in :ids")
+    List<TaskResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 델타 동기화: 보관 계층에서도 Context 이동(reassignContext)이 updatedAt을 갱신함
+    @Query(SELECT_TASK_RESPONSE + "where a.updatedAt > :since order by a.updatedAt")
+    List<TaskResponse> findResponsesUpdatedAfter(@Param("since") LocalDateTime since);
+
+    @Query(SELECT_TASK_RESPONSE + "where a.id > :afterId order by a.id")
+    List<TaskResponse> findResponsesAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @Query(SELECT_TASK_RESPONSE + "where a.contextId = :contextId and a.id > :afterId order by a.id")
+    List<TaskResponse> findResponsesByContextIdAfter(@Param("contextId") Long contextId,
+            @Param("afterId") Long afterId, Limit limit);
+
+    @Query("select a.id from ArchivedTask a where a.contextId = :contextId")
+    List<Long> findIdsByContextId(@Param("contextId") Long contextId);
+
+    // Context 삭제 시 캘린더 정리용 [taskId, googleCalendarId, googleEventId]
+    @Query("select a.id, a.googleCalendarId, a.googleEventId from ArchivedTask a "
+            + "where a.contextId = :contextId and a.googleEventId is not null")
+    List<Object[]> findGoogleEventLinksByContextId(@Param("contextId") Long contextId);
+
+    @Modifying
+    @Query("delete from ArchivedTask a where a.contextId = :contextId")
+    int deleteAllByContextId(@Param("contextId") Long contextId);
+
+    @Modifying
+    @Query("update ArchivedTask a set a.contextId = :targetId, a.updatedAt = :now where a.contextId = :sourceId")
+    int reassignContext(@Param("sourceId") Long sourceId, @Param("targetId") Long targetId,
+            @Param("now") LocalDateTime now);
+
+    @Query(SELECT_TASK_RESPONSE + "order by a.id")
+    Stream<TaskResponse> streamAllResponses();
+
+    // 읽기 모델 기동 적재용 forward-only 커서 (TaskReadModelLoader, 트랜잭션 안에서 소비해야 함)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new com.devzip.commandstack.repository.TaskIndexRow("
+            + "a.id, a.syntax, a.details, a.status, a.startedAt, a.deadline) from ArchivedTask a")
+    Stream<TaskIndexRow> streamIndexRows();
+
+    // tasks -> archived_tasks (같은 트랜잭션에서 deleteFromTasks와 함께 실행)
+    @Modifying
+    @Query(value = "INSERT INTO archived_tasks (" + TASK_COLUMNS + ", archived_at) "
+            + "SELECT " + TASK_COLUMNS + ", CURRENT_TIMESTAMP FROM tasks WHERE id IN (:ids)", nativeQuery = true)
+    int copyFromTasks(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM tasks WHERE id IN (:ids)", nativeQuery = true)
+    int deleteFromTasks(@Param("ids") Collection<Long> ids);
+
+    // archived_tasks -> tasks (보관된 Task를 수정/삭제할 때 핫 테이블로 복원)
+    @Modifying
+    @Query(value = "INSERT INTO tasks (" + TASK_COLUMNS + ") "
+            + "SELECT " + TASK_COLUMNS + " FROM archived_tasks WHERE id IN (:ids)", nativeQuery = true)
+    int copyToTasks(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM archived_tasks WHERE id IN (:ids)", nativeQuery = true)
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,32 @@
+package com.devzip.commandstack.repository;
+
+import com.devzip.commandstack.domain.CalendarOutbox;
+import com.devzip.commandstack.domain.CalendarOutbox.Operation;
+import com.devzip.commandstack.domain.CalendarOutbox.Status;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CalendarOutboxRepository extends JpaRepository<CalendarOutbox, Long> {
+
+    // 같은 Task의 앞선 항목이 대기 중이면 건너뛰어 Task별 순서를 보장
+    @Query("select o from CalendarOutbox o where o.status = :status and o.nextAttemptAt <= :now "
+            + "and not exists (select 1 from CalendarOutbox p where p.taskId = o.taskId "
+            + "and p.status = :status and p.id < o.id) order by o.id")
+    List<CalendarOutbox> findDue(@Param("status") Status status, @Param("now") LocalDateTime now, Limit limit);
+
+    @Query("select distinct o.taskId from CalendarOutbox o where o.status = :status and o.taskId in :taskIds")
+    List<Long> findTaskIdsByStatusAndTaskIdIn(@Param("status") Status status,
+            @Param("taskIds") Collection<Long> taskIds);
+
+    boolean existsByTaskIdAndOperationAndStatus(Long taskId, Operation operation, Status status);
+
+    long countByStatus(Status status);
+}
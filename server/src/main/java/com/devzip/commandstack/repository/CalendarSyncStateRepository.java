@@ -0,0 +1,16 @@
+package com.devzip.commandstack.repository;
+
+import com.devzip.commandstack.domain.CalendarSyncState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CalendarSyncStateRepository extends JpaRepository<CalendarSyncState, Long> {
+
+    Optional<CalendarSyncState> findByUserIdAndCalendarId(Long userId, String calendarId);
+
+    List<CalendarSyncState> findByUserId(Long userId);
+}
@@ -0,0 +1,13 @@
+package com.devzip.commandstack.repository;
+
+import com.devzip.commandstack.domain.Task.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인메모리 읽기 모델(검색 색인, 구간 색인, 마감 스케줄러) 기동 적재용 좁은 프로젝션
+ * 색인에 쓰는 필드만 읽어 엔티티/응답 DTO 전체를 힙에 올리지 않습니다.
+ */
+public record TaskIndexRow(Long id, String syntax, String details, TaskStatus status,
+        LocalDateTime startedAt, LocalDateTime deadline) {
+}
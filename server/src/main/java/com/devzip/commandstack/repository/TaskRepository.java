@@ -2,16 +2,32 @@ package com.devzip.commandstack.repository;
 
 import com.devzip.commandstack.domain.Task;
 import com.devzip.commandstack.domain.Task.TaskStatus;
+import com.devzip.commandstack.dto.response.TaskResponse;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
 
-    Optional<Task> findByGoogleEventId(String googleEventId);
+    // 읽기 전용 목록 조회용 생성자 프로젝션 (엔티티 하이드레이션/스냅샷 생략)
+    String SELECT_TASK_RESPONSE = "select new com.devzip.commandstack.dto.response.TaskResponse("
+            + "t.id, t.syntax, t.details, t.status, t.type, t.contextId, "
+            + "t.deadline, t.startedAt, t.completedAt, t.syncToGoogle, t.googleEventId) "
+            + "from Task t ";
+
+    List<Task> findByGoogleEventIdIn(Collection<String> googleEventIds);
 
     List<Task> findByStatusNot(TaskStatus status);
 
@@ -24,4 +40,90 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     List<Task> findByStatusOrderByDeadlineAsc(TaskStatus status);
 
     List<Task> findByStatusNotOrderByDeadlineAsc(TaskStatus status);
+
+    @Query(SELECT_TASK_RESPONSE)
+    List<TaskResponse> findAllResponses();
+
+    // Context별 상태 카운터 재계산용 [contextId, status, count]
+    @Query("select t.contextId, t.status, count(t) from Task t group by t.contextId, t.status")
+    List<Object[]> countGroupByContextIdAndStatus();
+
+    @Query(SELECT_TASK_RESPONSE + "where t.status in :statuses")
+    List<TaskResponse> findResponsesByStatusIn(@Param("statuses") Collection<TaskStatus> statuses);
+
+    @Query(SELECT_TASK_RESPONSE + "where t.status = :status")
+    List<TaskResponse> findResponsesByStatus(@Param("status") TaskStatus status);
+
+    @Query(SELECT_TASK_RESPONSE + "where t.contextId = :contextId")
+    List<TaskResponse> findResponsesByContextId(@Param("contextId") Long contextId);
+
+    @Query(SELECT_TASK_RESPONSE + "where t.id in :ids")
+    List<TaskResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(SELECT_TASK_RESPONSE + "where t.updatedAt > :since order by t.updatedAt")
+    List<TaskResponse> findResponsesUpdatedAfter(@Param("since") LocalDateTime since);
+
+    // Keyset 페이지네이션 (id 기준, 커서 이후 limit 건)
+    @Query(SELECT_TASK_RESPONSE + "where t.id > :afterId order by t.id")
+    List<TaskResponse> findResponsesAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @Query(SELECT_TASK_RESPONSE + "where t.status in :statuses and t.id > :afterId order by t.id")
+    List<TaskResponse> findResponsesByStatusInAfter(@Param("statuses") Collection<TaskStatus> statuses,
+            @Param("afterId") Long afterId, Limit limit);
+
+    @Query(SELECT_TASK_RESPONSE + "where t.status = :status and t.id > :afterId order by t.id")
+    List<TaskResponse> findResponsesByStatusAfter(@Param("status") TaskStatus status,
+            @Param("afterId") Long afterId, Limit limit);
+
+    @Query(SELECT_TASK_RESPONSE + "where t.contextId = :contextId and t.id > :afterId order by t.id")
+    List<TaskResponse> findResponsesByContextIdAfter(@Param("contextId") Long contextId,
+            @Param("afterId") Long afterId, Limit limit);
+
+    // 보관 대상 (완료 후 기준 시각이 지난 Task)
+    @Query("select t.id from Task t where t.status = :status and t.completedAt < :threshold order by t.id")
+    List<Long> findIdsByStatusAndCompletedAtBefore(@Param("status") TaskStatus status,
+            @Param("threshold") LocalDateTime threshold, Limit limit);
+
+    // Context 삭제 시 집합 단위 처리 (엔티티 로드 없음)
+    @Query("select t.id from Task t where t.contextId = :contextId")
+    List<Long> findIdsByContextId(@Param("contextId") Long contextId);
+
+    // 전체 동기화 대조용: 범위에 걸쳐 있고 해당 캘린더 이벤트에 연결된 Task (calendarId null은 primary)
+    // fetchedAt 이후에 바뀐 Task(조회 뒤에 연결/수정됨)는 목록에 없을 수 있으므로 제외
+    @Query("select t from Task t where t.userId = :userId and t.googleEventId is not null "
+            + "and (t.googleCalendarId = :calendarId or (:calendarId is null and t.googleCalendarId is null)) "
+            + "and coalesce(t.deadline, t.startedAt) > :timeMin and coalesce(t.startedAt, t.deadline) < :timeMax "
+            + "and t.updatedAt < :fetchedAt")
+    List<Task> findGoogleLinkedInWindow(@Param("userId") Long userId, @Param("calendarId") String calendarId,
+            @Param("timeMin") LocalDateTime timeMin, @Param("timeMax") LocalDateTime timeMax,
+            @Param("fetchedAt") LocalDateTime fetchedAt);
+
+    // Context 삭제 시 캘린더 정리용 [taskId, googleCalendarId, googleEventId]
+    @Query("select t.id, t.googleCalendarId, t.googleEventId from Task t "
+            + "where t.contextId = :contextId and t.googleEventId is not null")
+    List<Object[]> findGoogleEventLinksByContextId(@Param("contextId") Long contextId);
+
+    @Modifying
+    @Query("delete from Task t where t.contextId = :contextId")
+    int deleteAllByContextId(@Param("contextId") Long contextId);
+
+    @Modifying
+    @Query("update Task t set t.contextId = :targetId, t.updatedAt = :now where t.contextId = :sourceId")
+    int reassignContext(@Param("sourceId") Long sourceId, @Param("targetId") Long targetId,
+            @Param("now") LocalDateTime now);
+
+    // 전체 내보내기용 forward-only 커서 (트랜잭션 안에서 소비해야 함)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("select t from Task t order by t.id")
+    Stream<Task> streamAllOrderById();
+
+    // 읽기 모델 기동 적재용 forward-only 커서 (TaskReadModelLoader, 트랜잭션 안에서 소비해야 함)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new com.devzip.commandstack.repository.TaskIndexRow("
+            + "t.id, t.syntax, t.details, t.status, t.startedAt, t.deadline) from Task t")
+    Stream<TaskIndexRow> streamIndexRows();
 }
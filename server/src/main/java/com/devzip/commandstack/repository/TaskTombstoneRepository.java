@@ -0,0 +1,36 @@
+package com.devzip.commandstack.repository;
+
+import com.devzip.commandstack.domain.TaskTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, Long> {
+
+    @Query("select distinct tt.taskId from TaskTombstone tt where tt.deletedAt > :since")
+    List<Long> findTaskIdsDeletedAfter(@Param("since") LocalDateTime since);
+
+    // Context 삭제 시 소속 Task 툼스톤 일괄 기록
+    @Modifying
+    @Query(value = "INSERT INTO task_tombstones (id, task_id, deleted_at) "
+            + "SELECT NEXT VALUE FOR task_tombstones_seq, id, CURRENT_TIMESTAMP FROM tasks WHERE context_id = :contextId",
+            nativeQuery = true)
+    int insertForContext(@Param("contextId") Long contextId);
+
+    @Modifying
+    @Query(value = "INSERT INTO task_tombstones (id, task_id, deleted_at) "
+            + "SELECT NEXT VALUE FOR task_tombstones_seq, id, CURRENT_TIMESTAMP FROM archived_tasks "
+            + "WHERE context_id = :contextId",
+            nativeQuery = true)
+    int insertForArchivedContext(@Param("contextId") Long contextId);
+
+    @Modifying
+    @Query("delete from TaskTombstone tt where tt.deletedAt < :threshold")
+    int deleteOlderThan(@Param("threshold") LocalDateTime threshold);
+}
@@ -0,0 +1,160 @@
+package com.devzip.commandstack.service;
+
+import com.devzip.commandstack.domain.Task;
+import com.devzip.commandstack.domain.Task.TaskStatus;
+import com.devzip.commandstack.dto.response.TaskResponse;
+import com.devzip.commandstack.repository.TaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 활성 Task(EXIT_SUCCESS 제외) 인메모리 읽기 모델
+ * TaskService / GoogleCalendarService의 쓰기가 커밋된 뒤에 반영(write-through)되며,
+ * 적재된 이후의 활성 목록 조회는 DB를 거치지 않습니다.
+ */
+@Component
+@Slf4j
+public class ActiveTaskCache {
+
+    // 적재 도중 쓰기가 계속 끼어들면 이 횟수만큼 다시 읽은 뒤 캐시 없이 응답
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+
+    private final TaskRepository taskRepository;
+    // 쓰기(put/remove/invalidate)와 적재 결과 교체는 이 락 안에서만 수행
+    private final Object lock = new Object();
+    private volatile Map<Long, TaskResponse> tasks = new ConcurrentHashMap<>();
+    // 쓰기마다 증가, 적재 도중 쓰기가 끼어들었는지 판별 (lock 보호)
+    private long generation;
+    private volatile boolean loaded = false;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public ActiveTaskCache(TaskRepository taskRepository, MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        this.hits = Counter.builder("tasks.active.cache.hits")
+                .description("Active task list reads served from memory")
+                .register(meterRegistry);
+        this.misses = Counter.builder("tasks.active.cache.misses")
+                .description("Active task list reads that loaded from the database")
+                .register(meterRegistry);
+        Gauge.builder("tasks.active.cache.size", this, cache -> cache.tasks.size())
+                .description("Number of cached active tasks")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 활성 Task 목록 (id 오름차순)
+     */
+    public List<TaskResponse> getActiveTasks() {
+        if (loaded) {
+            hits.increment();
+            return snapshot();
+        }
+
+        misses.increment();
+        return load();
+    }
+
+    /**
+     * Task 생성/수정 반영 (트랜잭션 안이면 커밋 후 적용)
+     */
+    public void put(TaskResponse task) {
+        TransactionHooks.afterCommit(() -> {
+            synchronized (lock) {
+                generation++;
+                if (task.getStatus() == TaskStatus.EXIT_SUCCESS) {
+                    tasks.remove(task.getId());
+                } else {
+                    tasks.put(task.getId(), task);
+                }
+            }
+        });
+    }
+
+    /**
+     * Task 삭제 반영 (트랜잭션 안이면 커밋 후 적용)
+     */
+    public void remove(Long id) {
+        TransactionHooks.afterCommit(() -> {
+            synchronized (lock) {
+                generation++;
+                tasks.remove(id);
+            }
+        });
+    }
+
+    /**
+     * 여러 Task 삭제 반영 (트랜잭션 안이면 커밋 후 적용)
+     */
+    public void removeAll(Collection<Long> ids) {
+        TransactionHooks.afterCommit(() -> {
+            synchronized (lock) {
+                generation++;
+                ids.forEach(tasks::remove);
+            }
+        });
+    }
+
+    /**
+     * 대량 변경 이후 전체 무효화, 다음 조회 시 다시 적재합니다.
+     */
+    public void invalidate() {
+        TransactionHooks.afterCommit(() -> {
+            synchronized (lock) {
+                generation++;
+                loaded = false;
+                tasks = new ConcurrentHashMap<>();
+            }
+        });
+    }
+
+    /**
+     * DB에서 새 맵을 만든 뒤, 그 사이 쓰기가 없었을 때만 writer와 같은 락 안에서 참조를 교체
+     * 쓰기가 끼어들었으면 다시 읽습니다. (적재 결과가 방금 커밋된 쓰기를 덮어쓰지 않음)
+     */
+    private synchronized List<TaskResponse> load() {
+        List<TaskResponse> active = List.of();
+        for (int attempt = 1; attempt <= MAX_LOAD_ATTEMPTS; attempt++) {
+            if (loaded) {
+                return snapshot();
+            }
+
+            long startGeneration;
+            synchronized (lock) {
+                startGeneration = generation;
+            }
+            active = taskRepository.findResponsesByStatusIn(Task.ACTIVE_STATUSES);
+            Map<Long, TaskResponse> fresh = new ConcurrentHashMap<>();
+            active.forEach(task -> fresh.put(task.getId(), task));
+
+            synchronized (lock) {
+                if (generation == startGeneration) {
+                    tasks = fresh;
+                    loaded = true;
+                    log.info("Loaded {} active tasks into memory", active.size());
+                    return active;
+                }
+            }
+        }
+
+        log.debug("Active task cache load raced with writes, serving uncached result");
+        return active;
+    }
+
+    private List<TaskResponse> snapshot() {
+        List<TaskResponse> result = new ArrayList<>(tasks.values());
+        result.sort(Comparator.comparing(TaskResponse::getId));
+        return result;
+    }
+}
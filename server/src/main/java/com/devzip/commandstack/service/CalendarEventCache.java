@@ -0,0 +1,189 @@
+package com.devzip.commandstack.service;
+
+import com.devzip.commandstack.dto.response.GoogleCalendarEventResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 Google Calendar 이벤트 캐시 (시간 범위 기반)
+ * 조회한 범위를 구간으로 보관하고, 겹치거나 맞닿은 구간은 하나로 합칩니다.
+ * 이미 받은 구간 안의 하위 범위 조회는 Google을 호출하지 않고 구간에서 잘라 응답합니다.
+ * 구간은 TTL이 지나면 버려지고, 우리 쪽 이벤트 쓰기가 있으면 사용자 캐시 전체를 비웁니다.
+ * 무효화는 사용자별 세대를 올리므로, 무효화 전에 시작한 조회 결과는 저장되지 않습니다.
+ * 이벤트 id는 캘린더마다 고유하므로 (calendarId, eventId)로 구분합니다.
+ */
+@Component
+public class CalendarEventCache {
+
+    private final Duration ttl;
+    private final Map<Long, TreeMap<Instant, Segment>> segments = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public CalendarEventCache(
+            @Value("${app.calendar.events-cache-ttl-seconds:300}") long ttlSeconds,
+            MeterRegistry meterRegistry) {
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.hits = Counter.builder("calendar.events.cache.hits")
+                .description("Calendar event range reads served from memory")
+                .register(meterRegistry);
+        this.misses = Counter.builder("calendar.events.cache.misses")
+                .description("Calendar event range reads that called Google")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 범위 조회 (시작 시간순), 캐시된 구간이 범위를 모두 덮지 못하면 null
+     */
+    public List<GoogleCalendarEventResponse> get(Long userId, LocalDateTime start, LocalDateTime end) {
+        TreeMap<Instant, Segment> userSegments = segments.get(userId);
+        if (userSegments != null) {
+            Instant from = toInstant(start);
+            Instant to = toInstant(end);
+            synchronized (userSegments) {
+                pruneExpired(userSegments);
+                // 맞닿은 구간은 항상 합쳐져 있으므로 범위를 덮는 구간은 최대 하나
+                Map.Entry<Instant, Segment> floor = userSegments.floorEntry(from);
+                if (floor != null && !floor.getValue().end().isBefore(to)) {
+                    hits.increment();
+                    return floor.getValue().events().values().stream()
+                            .filter(event -> event.overlaps(from, to))
+                            .sorted(Comparator.comparing(CachedEvent::start))
+                            .map(CachedEvent::event)
+                            .toList();
+                }
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * 현재 세대, Google 조회를 시작하기 전에 읽어 put에 넘깁니다.
+     */
+    public long generation(Long userId) {
+        return generations.computeIfAbsent(userId, id -> new AtomicLong()).get();
+    }
+
+    /**
+     * Google에서 받은 범위 저장 (겹치거나 맞닿은 구간과 병합)
+     * 조회 시작 후 무효화되었으면(세대가 다르면) 쓰기 이전 응답일 수 있으므로 버립니다.
+     */
+    public void put(Long userId, long generation, LocalDateTime start, LocalDateTime end,
+            List<GoogleCalendarEventResponse> events) {
+        Instant fetchedFrom = toInstant(start);
+        Instant fetchedTo = toInstant(end);
+        Instant from = fetchedFrom;
+        Instant to = fetchedTo;
+        Instant fetchedAt = Instant.now();
+
+        Map<EventKey, CachedEvent> merged = new LinkedHashMap<>();
+        for (GoogleCalendarEventResponse event : events) {
+            merged.put(EventKey.of(event), CachedEvent.of(event));
+        }
+
+        TreeMap<Instant, Segment> userSegments = segments.computeIfAbsent(userId, id -> new TreeMap<>());
+        synchronized (userSegments) {
+            // invalidate는 세대를 먼저 올린 뒤 구간을 지우므로, 여기서 같으면 무효화 이후에 시작한 조회
+            if (generation != generation(userId)) {
+                return;
+            }
+            pruneExpired(userSegments);
+
+            Iterator<Segment> iterator = userSegments.headMap(to, true).values().iterator();
+            while (iterator.hasNext()) {
+                Segment segment = iterator.next();
+                if (segment.end().isBefore(from)) {
+                    continue;
+                }
+                // 새로 받은 범위 밖의 이벤트만 이어받음 (범위 안은 새 응답이 기준)
+                segment.events().forEach((key, event) -> {
+                    if (!event.overlaps(fetchedFrom, fetchedTo)) {
+                        merged.putIfAbsent(key, event);
+                    }
+                });
+                from = min(from, segment.start());
+                to = max(to, segment.end());
+                // 합친 구간은 가장 오래된 조회 시각 기준으로 만료
+                fetchedAt = min(fetchedAt, segment.fetchedAt());
+                iterator.remove();
+            }
+
+            userSegments.put(from, new Segment(from, to, fetchedAt, merged));
+        }
+    }
+
+    /**
+     * 사용자 캐시 비우기 (이벤트 생성/수정/삭제 후)
+     */
+    public void invalidate(Long userId) {
+        generations.computeIfAbsent(userId, id -> new AtomicLong()).incrementAndGet();
+        segments.remove(userId);
+    }
+
+    private void pruneExpired(TreeMap<Instant, Segment> userSegments) {
+        Instant threshold = Instant.now().minus(ttl);
+        userSegments.values().removeIf(segment -> segment.fetchedAt().isBefore(threshold));
+    }
+
+    private static Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    private static Instant min(Instant a, Instant b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static Instant max(Instant a, Instant b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private record Segment(Instant start, Instant end, Instant fetchedAt, Map<EventKey, CachedEvent> events) {
+    }
+
+    private record EventKey(String calendarId, String eventId) {
+
+        static EventKey of(GoogleCalendarEventResponse event) {
+            return new EventKey(event.getCalendarId(), event.getId());
+        }
+    }
+
+    private record CachedEvent(GoogleCalendarEventResponse event, Instant start, Instant end) {
+
+        static CachedEvent of(GoogleCalendarEventResponse event) {
+            return new CachedEvent(event, parse(event.getStart()), parse(event.getEnd()));
+        }
+
+        // Google events.list와 같은 기준: 끝이 범위 시작 이후이고 시작이 범위 끝 이전
+        boolean overlaps(Instant from, Instant to) {
+            return end.isAfter(from) && start.isBefore(to);
+        }
+
+        // 종일 이벤트는 yyyy-MM-dd, 그 외는 오프셋이 포함된 RFC 3339
+        private static Instant parse(String value) {
+            if (value.length() <= 10) {
+                return LocalDate.parse(value).atStartOfDay(ZoneId.systemDefault()).toInstant();
+            }
+            return OffsetDateTime.parse(value).toInstant();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.devzip.commandstack.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 여러 캘린더 조회를 동시에 실행하는 제한된 스레드 풀
+ * 전체 스레드 수와 별도로 사용자별 동시 호출 수를 제한해, 캘린더가 많은 사용자가 풀을 독점하지 않게 합니다.
+ */
+@Component
+public class CalendarFetchExecutor {
+
+    private final ExecutorService executor;
+    private final int perUserConcurrency;
+    private final Map<Long, Semaphore> permits = new ConcurrentHashMap<>();
+
+    public CalendarFetchExecutor(
+            @Value("${app.calendar.fetch-threads:8}") int threads,
+            @Value("${app.calendar.fetch-per-user-concurrency:3}") int perUserConcurrency) {
+        this.perUserConcurrency = perUserConcurrency;
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "calendar-fetch-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 작업을 동시에 실행하고 모두 끝날 때까지 대기 (결과는 입력 순서)
+     * 사용자별 허용 수만큼만 풀에 넘기고, 나머지는 호출 스레드에서 자리가 날 때까지 기다립니다.
+     * 실패한 작업은 결과 대신 예외를 담은 Outcome으로 돌려줍니다.
+     */
+    public <T> List<Outcome<T>> invokeAll(Long userId, List<Callable<T>> tasks) {
+        Semaphore userPermits = permits.computeIfAbsent(userId, id -> new Semaphore(perUserConcurrency));
+
+        List<CompletableFuture<Outcome<T>>> futures = new ArrayList<>();
+        for (Callable<T> task : tasks) {
+            try {
+                userPermits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.add(CompletableFuture.completedFuture(new Outcome<>(null, e)));
+                continue;
+            }
+            futures.add(CompletableFuture.supplyAsync(() -> run(task), executor)
+                    .whenComplete((outcome, error) -> userPermits.release()));
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> Outcome<T> run(Callable<T> task) {
+        try {
+            return new Outcome<>(task.call(), null);
+        } catch (Exception e) {
+            return new Outcome<>(null, e);
+        }
+    }
+
+    /**
+     * 작업 결과 (성공 시 value, 실패 시 error)
+     */
+    public record Outcome<T>(T value, Exception error) {
+
+        public boolean isSuccess() {
+            return error == null;
+        }
+    }
+}
@@ -0,0 +1,371 @@
+package com.devzip.commandstack.service;
+
+import com.devzip.commandstack.domain.CalendarOutbox;
+import com.devzip.commandstack.domain.CalendarOutbox.Operation;
+import com.devzip.commandstack.domain.CalendarOutbox.Status;
+import com.devzip.commandstack.domain.Task;
+import com.devzip.commandstack.domain.User;
+import com.devzip.commandstack.dto.response.ChangeEventResponse;
+import com.devzip.commandstack.dto.response.TaskResponse;
+import com.devzip.commandstack.repository.CalendarOutboxRepository;
+import com.devzip.commandstack.repository.TaskRepository;
+import com.devzip.commandstack.repository.UserRepository;
+import com.devzip.commandstack.service.GoogleCalendarService.EventWrite;
+import com.devzip.commandstack.service.GoogleCalendarService.EventWriteResult;
+import com.google.api.client.http.HttpResponseException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Google Calendar 쓰기 아웃박스
+ * Task 쓰기 트랜잭션에서는 대기열에 기록만 하고(DB 시간 안에 응답), 워커가 커밋된 항목을 Google에 반영합니다.
+ * 실패하면 지수 백오프로 재시도하고, 한도를 넘기거나 재시도할 수 없는 오류면 DEAD로 남깁니다.
+ */
+@Service
+@Slf4j
+public class CalendarOutboxService {
+
+    private final CalendarOutboxRepository outboxRepository;
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final GoogleCalendarService googleCalendarService;
+    private final TaskReadModels taskReadModels;
+    private final DataVersion dataVersion;
+    private final ChangeEventPublisher changeEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+
+    private final Counter delivered;
+    private final Counter retried;
+    private final Counter deadLettered;
+    private final Timer lag;
+
+    public CalendarOutboxService(
+            CalendarOutboxRepository outboxRepository,
+            TaskRepository taskRepository,
+            UserRepository userRepository,
+            GoogleCalendarService googleCalendarService,
+            TaskReadModels taskReadModels,
+            DataVersion dataVersion,
+            ChangeEventPublisher changeEventPublisher,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.outbox.batch-size:50}") int batchSize,
+            @Value("${app.outbox.max-attempts:8}") int maxAttempts,
+            @Value("${app.outbox.base-backoff-seconds:5}") long baseBackoffSeconds,
+            @Value("${app.outbox.max-backoff-seconds:1800}") long maxBackoffSeconds) {
+        this.outboxRepository = outboxRepository;
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        this.googleCalendarService = googleCalendarService;
+        this.taskReadModels = taskReadModels;
+        this.dataVersion = dataVersion;
+        this.changeEventPublisher = changeEventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoff = Duration.ofSeconds(baseBackoffSeconds);
+        this.maxBackoff = Duration.ofSeconds(maxBackoffSeconds);
+
+        this.delivered = Counter.builder("calendar.outbox.delivered")
+                .description("Outbox entries applied to Google Calendar")
+                .register(meterRegistry);
+        this.retried = Counter.builder("calendar.outbox.retries")
+                .description("Outbox deliveries that failed and were rescheduled")
+                .register(meterRegistry);
+        this.deadLettered = Counter.builder("calendar.outbox.dead-lettered")
+                .description("Outbox entries moved to DEAD")
+                .register(meterRegistry);
+        this.lag = Timer.builder("calendar.outbox.lag")
+                .description("Time from enqueue to successful delivery")
+                .register(meterRegistry);
+        Gauge.builder("calendar.outbox.pending", () -> outboxRepository.countByStatus(Status.PENDING))
+                .description("Outbox entries waiting for delivery")
+                .register(meterRegistry);
+        Gauge.builder("calendar.outbox.dead", () -> outboxRepository.countByStatus(Status.DEAD))
+                .description("Outbox entries that exhausted retries")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이벤트 생성 예약 (호출자 트랜잭션에 참여)
+     * 같은 Task의 CREATE가 이미 대기(또는 전송) 중이면 두 번째 CREATE는 연결 후 폐기되므로, 대신 그 뒤에 UPDATE를 둡니다.
+     * UPDATE는 Task별 순서상 CREATE가 연결된 뒤에 처리되어 그 시점의 Task 내용을 보냅니다.
+     */
+    public void enqueueCreate(Long userId, Long taskId) {
+        boolean createQueued = outboxRepository.existsByTaskIdAndOperationAndStatus(taskId, Operation.CREATE,
+                Status.PENDING);
+        outboxRepository.save(entry(userId, taskId, createQueued ? Operation.UPDATE : Operation.CREATE, null));
+    }
+
+    /**
+     * 이벤트 갱신 예약 (호출자 트랜잭션에 참여)
+     */
+    public void enqueueUpdate(Long userId, Long taskId) {
+        outboxRepository.save(entry(userId, taskId, Operation.UPDATE, null));
+    }
+
+    /**
+     * 이벤트 삭제 예약 (호출자 트랜잭션에 참여)
+     */
+    public void enqueueDelete(Long userId, EventRef event) {
+        outboxRepository.save(entry(userId, event.taskId(), Operation.DELETE, event));
+    }
+
+    /**
+     * 여러 Task 이벤트 생성 예약 (배치 INSERT)
+     */
+    public void enqueueCreates(Long userId, List<Long> taskIds) {
+        outboxRepository.saveAll(taskIds.stream()
+                .map(taskId -> entry(userId, taskId, Operation.CREATE, null))
+                .toList());
+    }
+
+    /**
+     * 여러 이벤트 삭제 예약 (배치 INSERT)
+     */
+    public void enqueueDeletes(Long userId, List<EventRef> events) {
+        outboxRepository.saveAll(events.stream()
+                .map(event -> entry(userId, event.taskId(), Operation.DELETE, event))
+                .toList());
+    }
+
+    /**
+     * 대기열 처리 (Google 호출 중에는 DB 트랜잭션을 잡지 않음)
+     * Task별로 가장 앞선 항목만 가져오므로, 한 패스가 끝나면 다음 항목을 이어서 처리합니다.
+     * 사용자별로 묶어 Google 배치 요청으로 전송합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:1000}")
+    public void drain() {
+        while (true) {
+            List<CalendarOutbox> due = outboxRepository.findDue(Status.PENDING, LocalDateTime.now(),
+                    Limit.of(batchSize));
+            if (due.isEmpty()) {
+                return;
+            }
+            due.stream()
+                    .collect(Collectors.groupingBy(CalendarOutbox::getUserId, LinkedHashMap::new,
+                            Collectors.toList()))
+                    .forEach(this::deliver);
+        }
+    }
+
+    private void deliver(Long userId, List<CalendarOutbox> entries) {
+        User user = userRepository.findById(userId).orElse(null);
+        if (user == null) {
+            log.warn("Dropping {} outbox entries: user {} no longer exists", entries.size(), userId);
+            outboxRepository.deleteAllInBatch(entries);
+            return;
+        }
+
+        Map<Long, Task> tasks = taskRepository.findAllById(entries.stream()
+                        .filter(entry -> entry.getOperation() != Operation.DELETE)
+                        .map(CalendarOutbox::getTaskId)
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        // 더 이상 반영할 필요가 없는 항목(Task 삭제, 연동 해제, 이미 연결됨)은 바로 정리
+        List<CalendarOutbox> sent = new ArrayList<>();
+        List<EventWrite> writes = new ArrayList<>();
+        List<CalendarOutbox> obsolete = new ArrayList<>();
+        for (CalendarOutbox entry : entries) {
+            EventWrite write = toWrite(entry, tasks.get(entry.getTaskId()));
+            if (write == null) {
+                obsolete.add(entry);
+            } else {
+                sent.add(entry);
+                writes.add(write);
+            }
+        }
+        if (!obsolete.isEmpty()) {
+            outboxRepository.deleteAllInBatch(obsolete);
+        }
+        if (writes.isEmpty()) {
+            return;
+        }
+
+        List<EventWriteResult> results;
+        try {
+            results = googleCalendarService.writeEvents(user, writes);
+        } catch (IOException | RuntimeException e) {
+            sent.forEach(entry -> fail(entry, e));
+            return;
+        }
+
+        Map<CalendarOutbox, EventWriteResult> created = new LinkedHashMap<>();
+        Map<CalendarOutbox, EventWriteResult> updated = new LinkedHashMap<>();
+        List<CalendarOutbox> completed = new ArrayList<>();
+        for (int i = 0; i < sent.size(); i++) {
+            CalendarOutbox entry = sent.get(i);
+            EventWriteResult result = results.get(i);
+            if (!result.isSuccess()) {
+                fail(entry, result.error());
+                continue;
+            }
+            delivered.increment();
+            lag.record(Duration.between(entry.getCreatedAt(), LocalDateTime.now()));
+            switch (entry.getOperation()) {
+                case CREATE -> created.put(entry, result);
+                case UPDATE -> updated.put(entry, result);
+                case DELETE -> completed.add(entry);
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            linkCreatedEvents(created);
+            recordUpdatedEtags(updated);
+            completed.addAll(created.keySet());
+            completed.addAll(updated.keySet());
+            if (!completed.isEmpty()) {
+                outboxRepository.deleteAllInBatch(completed);
+            }
+        });
+    }
+
+    private EventWrite toWrite(CalendarOutbox entry, Task task) {
+        return switch (entry.getOperation()) {
+            case CREATE -> task != null && task.isSyncToGoogle() && task.getGoogleEventId() == null
+                    ? new EventWrite(Operation.CREATE, task.getGoogleCalendarId(), task, null)
+                    : null;
+            case UPDATE -> task != null && task.isSyncToGoogle() && task.getGoogleEventId() != null
+                    ? new EventWrite(Operation.UPDATE, task.getGoogleCalendarId(), task, task.getGoogleEventId())
+                    : null;
+            case DELETE -> new EventWrite(Operation.DELETE, entry.getGoogleCalendarId(), null,
+                    entry.getGoogleEventId());
+        };
+    }
+
+    /**
+     * 생성된 이벤트 id와 etag를 Task에 연결 (호출자 트랜잭션에 참여)
+     */
+    private void linkCreatedEvents(Map<CalendarOutbox, EventWriteResult> created) {
+        if (created.isEmpty()) {
+            return;
+        }
+        Map<Long, Task> current = taskRepository.findAllById(created.keySet().stream()
+                        .map(CalendarOutbox::getTaskId)
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        created.forEach((entry, result) -> {
+            String eventId = result.googleEventId();
+            Task task = current.get(entry.getTaskId());
+            if (task != null && eventId.equals(task.getGoogleEventId())) {
+                // 그 사이 동기화가 확장 속성의 Task id로 먼저 연결함
+                return;
+            }
+            if (task == null || !task.isSyncToGoogle() || task.getGoogleEventId() != null) {
+                // 생성하는 동안 Task가 삭제/연동 해제되었으면 만든 이벤트를 정리
+                enqueueDelete(entry.getUserId(), new EventRef(entry.getTaskId(), task != null
+                        ? task.getGoogleCalendarId() : null, eventId));
+                return;
+            }
+            task.setGoogleEventId(eventId);
+            task.setGoogleEtag(result.etag());
+            TaskResponse response = TaskResponse.from(task);
+            taskReadModels.saved(response);
+            changeEventPublisher.publishTask(ChangeEventResponse.ACTION_UPDATED, response.getId(), response);
+        });
+        dataVersion.bump();
+    }
+
+    /**
+     * 갱신 후 etag 저장 (호출자 트랜잭션에 참여)
+     * 다음 동기화에서 자기 쓰기가 변경분으로 돌아와도 etag가 같아 다시 반영하지 않습니다.
+     */
+    private void recordUpdatedEtags(Map<CalendarOutbox, EventWriteResult> updated) {
+        if (updated.isEmpty()) {
+            return;
+        }
+        Map<Long, Task> current = taskRepository.findAllById(updated.keySet().stream()
+                        .map(CalendarOutbox::getTaskId)
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        updated.forEach((entry, result) -> {
+            Task task = current.get(entry.getTaskId());
+            // 그 사이 연결이 바뀌었으면 다른 이벤트의 etag이므로 저장하지 않음
+            if (task != null && Objects.equals(task.getGoogleEventId(), result.googleEventId())) {
+                task.setGoogleEtag(result.etag());
+            }
+        });
+    }
+
+    private void fail(CalendarOutbox entry, Exception e) {
+        String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+
+        if (!isRetryable(e) || entry.getAttempts() + 1 >= maxAttempts) {
+            entry.deadLetter(error);
+            deadLettered.increment();
+            log.error("Outbox entry {} ({} task {}) dead-lettered after {} attempts",
+                    entry.getId(), entry.getOperation(), entry.getTaskId(), entry.getAttempts(), e);
+        } else {
+            entry.retryLater(error, LocalDateTime.now().plus(backoff(entry.getAttempts() + 1)));
+            retried.increment();
+            log.warn("Outbox entry {} ({} task {}) failed, retry #{} at {}: {}",
+                    entry.getId(), entry.getOperation(), entry.getTaskId(), entry.getAttempts(),
+                    entry.getNextAttemptAt(), error);
+        }
+        outboxRepository.save(entry);
+    }
+
+    // 요청 자체가 잘못된 4xx는 재시도해도 같은 결과이므로 바로 DEAD 처리
+    private boolean isRetryable(Exception e) {
+        if (e instanceof HttpResponseException response) {
+            int code = response.getStatusCode();
+            return code == 403 || code == 408 || code == 429 || code >= 500;
+        }
+        return true;
+    }
+
+    private Duration backoff(int attempt) {
+        Duration delay = baseBackoff.multipliedBy(1L << Math.min(attempt - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private CalendarOutbox entry(Long userId, Long taskId, Operation operation, EventRef event) {
+        return CalendarOutbox.builder()
+                .userId(userId)
+                .taskId(taskId)
+                .operation(operation)
+                .googleCalendarId(event != null ? event.calendarId() : null)
+                .googleEventId(event != null ? event.eventId() : null)
+                .build();
+    }
+
+    /**
+     * 삭제할 이벤트 식별자 (calendarId가 null이면 primary)
+     */
+    public record EventRef(Long taskId, String calendarId, String eventId) {
+
+        public static EventRef of(Task task) {
+            return new EventRef(task.getId(), task.getGoogleCalendarId(), task.getGoogleEventId());
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.devzip.commandstack.service;
+
+import com.devzip.commandstack.dto.response.ChangeEventResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Task / Context 변경 이벤트 SSE 발행
+ * 구독자마다 고정 크기 버퍼를 두고 별도 스레드에서 전송하므로, 느린 클라이언트가 발행자를 막지 않습니다.
+ * 전송은 구독자 단위로 진행되어(구독자당 동시에 하나) 멈춘 클라이언트는 자기 전송 스레드만 붙잡고,
+ * 한 건의 전송이 제한 시간을 넘기거나 버퍼가 가득 찬 구독자는 연결을 끊습니다.
+ * send()와 complete()는 같은 쓰기 락을 쓰므로 emitter 종료는 항상 전송 스레드에서만 호출합니다.
+ * 끊긴 클라이언트는 재연결 후 /api/tasks/changes로 따라잡습니다.
+ */
+@Service
+@Slf4j
+public class ChangeEventPublisher {
+
+    private static final long EMITTER_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+    private static final ChangeEventResponse HEARTBEAT = ChangeEventResponse.builder().build();
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService dispatcher;
+    private final AtomicLong sequence = new AtomicLong();
+    private final int bufferSize;
+    private final long sendTimeoutNanos;
+    private final Counter dropped;
+    private final Counter timedOut;
+
+    public ChangeEventPublisher(
+            @Value("${app.events.buffer-size:256}") int bufferSize,
+            @Value("${app.events.send-timeout-ms:5000}") long sendTimeoutMillis,
+            MeterRegistry meterRegistry) {
+        this.bufferSize = bufferSize;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+        // 구독자당 drain은 동시에 하나이므로 스레드 수는 전송 중인 구독자 수를 넘지 않음
+        this.dispatcher = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "sse-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.dropped = Counter.builder("events.stream.dropped")
+                .description("SSE subscribers disconnected because their buffer overflowed")
+                .register(meterRegistry);
+        this.timedOut = Counter.builder("events.stream.send-timeouts")
+                .description("SSE subscribers disconnected because a send stalled")
+                .register(meterRegistry);
+        Gauge.builder("events.stream.subscribers", subscribers, Set::size)
+                .description("Connected SSE subscribers")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+        Subscriber subscriber = new Subscriber(emitter, new ArrayBlockingQueue<>(bufferSize));
+        subscribers.add(subscriber);
+
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> {
+            subscribers.remove(subscriber);
+            emitter.complete();
+        });
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        return emitter;
+    }
+
+    public void publishTask(String action, Long id, Object data) {
+        publish(ChangeEventResponse.ENTITY_TASK, action, id, data);
+    }
+
+    public void publishContext(String action, Long id, Object data) {
+        publish(ChangeEventResponse.ENTITY_CONTEXT, action, id, data);
+    }
+
+    /**
+     * 이벤트 발행 (트랜잭션 안이면 커밋 후 발행)
+     */
+    public void publish(String entity, String action, Long id, Object data) {
+        TransactionHooks.afterCommit(() -> {
+            ChangeEventResponse event = ChangeEventResponse.builder()
+                    .seq(sequence.incrementAndGet())
+                    .entity(entity)
+                    .action(action)
+                    .id(id)
+                    .data(data)
+                    .build();
+
+            subscribers.forEach(subscriber -> enqueue(subscriber, event));
+        });
+    }
+
+    /**
+     * 프록시/브라우저가 유휴 연결을 끊지 않도록 주기적으로 주석 이벤트 전송
+     */
+    @Scheduled(fixedRate = 25_000)
+    public void heartbeat() {
+        subscribers.forEach(subscriber -> enqueue(subscriber, HEARTBEAT));
+    }
+
+    /**
+     * 전송이 제한 시간을 넘긴(멈춘) 구독자만 끊음
+     * 막힌 쓰기는 컨테이너의 소켓 쓰기 타임아웃으로 풀리고, 그동안 다른 구독자의 전송은 계속됩니다.
+     */
+    @Scheduled(fixedDelay = 1_000)
+    public void expireStalledSends() {
+        long now = System.nanoTime();
+        subscribers.forEach(subscriber -> {
+            long startedAt = subscriber.sendStartedAt().get();
+            if (startedAt != 0 && now - startedAt > sendTimeoutNanos && disconnect(subscriber)) {
+                timedOut.increment();
+                log.warn("SSE subscriber send stalled, disconnecting");
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        subscribers.forEach(subscriber -> close(subscriber, null));
+        subscribers.clear();
+    }
+
+    private void enqueue(Subscriber subscriber, ChangeEventResponse message) {
+        if (!subscriber.buffer().offer(message)) {
+            // 버퍼 초과: 발행자를 막지 않고 해당 구독자만 끊음
+            if (disconnect(subscriber)) {
+                dropped.increment();
+                log.warn("SSE subscriber buffer overflow, disconnecting");
+            }
+            return;
+        }
+
+        if (subscriber.draining().compareAndSet(false, true)) {
+            dispatcher.execute(() -> drain(subscriber));
+        }
+    }
+
+    /**
+     * 구독자 제거 (emitter는 건드리지 않음)
+     * 전송 중이면 그 drain이 전송을 마친 뒤 종료하고, 아니면 전송 스레드에 종료를 넘깁니다.
+     */
+    private boolean disconnect(Subscriber subscriber) {
+        if (!subscribers.remove(subscriber)) {
+            return false;
+        }
+        subscriber.buffer().clear();
+        if (subscriber.draining().compareAndSet(false, true)) {
+            dispatchClose(subscriber);
+        }
+        return true;
+    }
+
+    private void dispatchClose(Subscriber subscriber) {
+        try {
+            dispatcher.execute(() -> close(subscriber, null));
+        } catch (RejectedExecutionException e) {
+            // 종료 중: shutdown()이 남은 emitter를 정리
+        }
+    }
+
+    // 구독자당 한 번만 종료 (drain과 disconnect가 동시에 종료를 시도할 수 있음)
+    private void close(Subscriber subscriber, Throwable error) {
+        if (!subscriber.closed().compareAndSet(false, true)) {
+            return;
+        }
+        if (error == null) {
+            subscriber.emitter().complete();
+        } else {
+            subscriber.emitter().completeWithError(error);
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            ChangeEventResponse message;
+            // 끊긴 구독자(타임아웃/버퍼 초과)는 남은 메시지를 보내지 않음
+            while (subscribers.contains(subscriber) && (message = subscriber.buffer().poll()) != null) {
+                subscriber.sendStartedAt().set(System.nanoTime());
+                try {
+                    subscriber.emitter().send(toSseEvent(message));
+                } finally {
+                    subscriber.sendStartedAt().set(0);
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            subscribers.remove(subscriber);
+            subscriber.buffer().clear();
+            close(subscriber, e);
+            return;
+        } finally {
+            subscriber.draining().set(false);
+        }
+
+        // 전송 중에 끊긴 구독자는 전송을 마친 이 스레드가 종료
+        if (!subscribers.contains(subscriber)) {
+            close(subscriber, null);
+            return;
+        }
+
+        // drain 종료와 enqueue 사이에 들어온 메시지 처리
+        if (!subscriber.buffer().isEmpty() && subscriber.draining().compareAndSet(false, true)) {
+            dispatcher.execute(() -> drain(subscriber));
+        }
+    }
+
+    // SseEventBuilder는 전송 시 내부 상태가 바뀌므로 구독자마다 새로 만듦
+    private SseEmitter.SseEventBuilder toSseEvent(ChangeEventResponse message) {
+        if (message == HEARTBEAT) {
+            return SseEmitter.event().comment("ping");
+        }
+        return SseEmitter.event()
+                .id(String.valueOf(message.getSeq()))
+                .name(message.getEntity() + "." + message.getAction())
+                .data(message, MediaType.APPLICATION_JSON);
+    }
+
+    // sendStartedAt: 진행 중인 전송의 시작 시각(nanoTime), 전송 중이 아니면 0
+    private record Subscriber(SseEmitter emitter, BlockingQueue<ChangeEventResponse> buffer,
+            AtomicBoolean draining, AtomicLong sendStartedAt, AtomicBoolean closed) {
+
+        Subscriber(SseEmitter emitter, BlockingQueue<ChangeEventResponse> buffer) {
+            this(emitter, buffer, new AtomicBoolean(false), new AtomicLong(), new AtomicBoolean(false));
+        }
+    }
+}
@@ -1,22 +1,41 @@
 package com.devzip.commandstack.service;
 
+import com.devzip.commandstack.domain.ChangeWatermark;
 import com.devzip.commandstack.domain.Context;
 import com.devzip.commandstack.dto.request.ContextCreateRequest;
+import com.devzip.commandstack.dto.response.ChangeEventResponse;
 import com.devzip.commandstack.dto.response.ContextResponse;
+import com.devzip.commandstack.repository.ArchivedTaskRepository;
 import com.devzip.commandstack.repository.ContextRepository;
+import com.devzip.commandstack.repository.TaskRepository;
+import com.devzip.commandstack.repository.TaskTombstoneRepository;
+import com.devzip.commandstack.service.CalendarOutboxService.EventRef;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
+@Slf4j
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ContextService {
 
     private final ContextRepository contextRepository;
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final TaskTombstoneRepository taskTombstoneRepository;
+    private final TaskReadModels taskReadModels;
+    private final ContextTaskCounters contextTaskCounters;
+    private final AuthService authService;
+    private final CalendarOutboxService calendarOutboxService;
+    private final DataVersion dataVersion;
+    private final ChangeEventPublisher changeEventPublisher;
 
     @Transactional
     public ContextResponse createContext(ContextCreateRequest request) {
@@ -31,19 +50,22 @@ public class ContextService {
                 .build();
 
         Context savedContext = contextRepository.save(context);
-        return ContextResponse.from(savedContext);
+        ContextResponse response = ContextResponse.from(savedContext, contextTaskCounters.get(savedContext.getId()));
+        dataVersion.bump();
+        changeEventPublisher.publishContext(ChangeEventResponse.ACTION_CREATED, response.getId(), response);
+        return response;
     }
 
     public List<ContextResponse> getAllContexts() {
         return contextRepository.findAll().stream()
-                .map(ContextResponse::from)
+                .map(context -> ContextResponse.from(context, contextTaskCounters.get(context.getId())))
                 .collect(Collectors.toList());
     }
 
     public ContextResponse getContextById(Long id) {
         Context context = contextRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Context not found with id: " + id));
-        return ContextResponse.from(context);
+        return ContextResponse.from(context, contextTaskCounters.get(id));
     }
 
     @Transactional
@@ -53,14 +75,80 @@ public class ContextService {
 
         context.update(request.getNamespace(), request.getDescription(), request.getColor());
 
-        return ContextResponse.from(context);
+        ContextResponse response = ContextResponse.from(context, contextTaskCounters.get(id));
+        dataVersion.bump();
+        changeEventPublisher.publishContext(ChangeEventResponse.ACTION_UPDATED, response.getId(), response);
+        return response;
     }
 
+    /**
+     * Context 삭제
+     * cascade=true면 소속 Task를 삭제하고, reassignTo가 있으면 해당 Context로 옮깁니다. (둘 다 없으면 Task 유지)
+     * Task 처리는 엔티티를 로드하지 않는 집합 단위 DELETE / UPDATE 문으로 실행됩니다.
+     */
     @Transactional
-    public void deleteContext(Long id) {
+    public void deleteContext(Long id, boolean cascade, Long reassignTo) {
         if (!contextRepository.existsById(id)) {
             throw new IllegalArgumentException("Context not found with id: " + id);
         }
+        if (cascade && reassignTo != null) {
+            throw new IllegalArgumentException("Choose either cascade or reassignTo, not both");
+        }
+
+        if (reassignTo != null) {
+            reassignTasks(id, reassignTo);
+        } else if (cascade) {
+            deleteTasks(id);
+        }
+
         contextRepository.deleteById(id);
+        dataVersion.bump();
+        changeEventPublisher.publishContext(ChangeEventResponse.ACTION_DELETED, id, null);
+    }
+
+    private void reassignTasks(Long sourceId, Long targetId) {
+        if (sourceId.equals(targetId) || !contextRepository.existsById(targetId)) {
+            throw new IllegalArgumentException("Invalid target context id: " + targetId);
+        }
+
+        ChangeWatermark.markChanging();
+        LocalDateTime now = LocalDateTime.now();
+        int moved = taskRepository.reassignContext(sourceId, targetId, now)
+                + archivedTaskRepository.reassignContext(sourceId, targetId, now);
+        if (moved > 0) {
+            taskReadModels.contextReassigned();
+            contextTaskCounters.contextReassigned(sourceId, targetId);
+            changeEventPublisher.publishTask(ChangeEventResponse.ACTION_RESYNC, null, null);
+        }
+        log.info("Reassigned {} tasks from context {} to {}", moved, sourceId, targetId);
+    }
+
+    private void deleteTasks(Long contextId) {
+        // 삭제 후에는 id를 알 수 없으므로 읽기 모델/캘린더 정리용 식별자만 먼저 조회
+        List<Long> taskIds = new ArrayList<>(taskRepository.findIdsByContextId(contextId));
+        taskIds.addAll(archivedTaskRepository.findIdsByContextId(contextId));
+        // 보관된 Task도 Google 이벤트가 연결되어 있을 수 있음
+        List<Object[]> links = new ArrayList<>(taskRepository.findGoogleEventLinksByContextId(contextId));
+        links.addAll(archivedTaskRepository.findGoogleEventLinksByContextId(contextId));
+        List<EventRef> googleEvents = links.stream()
+                .map(row -> new EventRef((Long) row[0], (String) row[1], (String) row[2]))
+                .toList();
+
+        taskTombstoneRepository.insertForContext(contextId);
+        taskTombstoneRepository.insertForArchivedContext(contextId);
+        int deleted = taskRepository.deleteAllByContextId(contextId)
+                + archivedTaskRepository.deleteAllByContextId(contextId);
+
+        if (!googleEvents.isEmpty()) {
+            authService.getCurrentUser().ifPresent(user ->
+                    calendarOutboxService.enqueueDeletes(user.getId(), googleEvents));
+        }
+
+        taskReadModels.deletedAll(taskIds);
+        contextTaskCounters.contextDeleted(contextId);
+        if (deleted > 0) {
+            changeEventPublisher.publishTask(ChangeEventResponse.ACTION_RESYNC, null, null);
+        }
+        log.info("Deleted {} tasks with context {}", deleted, contextId);
     }
 }
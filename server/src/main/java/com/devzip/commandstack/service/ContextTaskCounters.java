@@ -0,0 +1,166 @@
+package com.devzip.commandstack.service;
+
+import com.devzip.commandstack.domain.Task.TaskStatus;
+import com.devzip.commandstack.repository.ArchivedTaskRepository;
+import com.devzip.commandstack.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Context별 상태 카운터 (PENDING / EXECUTING / EXIT_SUCCESS / SIGKILL, 보관 계층 포함)
+ * TaskService 쓰기가 커밋된 뒤 증감분만 반영하므로, 조회 시 GROUP BY를 실행하지 않습니다.
+ * 드리프트 방지를 위해 기동 시와 주기적으로 전체 재계산(reconcile)합니다.
+ * 커밋 직전(beforeCommit)부터 증감 반영까지는 진행 중(inFlight)으로 표시해,
+ * 재계산 집계에 이미 포함된 쓰기가 설치 후 한 번 더 반영되지 않게 합니다.
+ */
+@Component
+@Slf4j
+public class ContextTaskCounters {
+
+    private static final int MAX_RECONCILE_ATTEMPTS = 3;
+    private static final long[] EMPTY = new long[TaskStatus.values().length];
+
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final Map<Long, long[]> counts = new HashMap<>();
+    // 증감 반영마다 증가, 재계산 도중 쓰기가 끼어들었는지 판별
+    private final AtomicLong generation = new AtomicLong();
+    // 커밋을 시작했지만 증감을 아직 반영하지 않은 쓰기 수
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public ContextTaskCounters(TaskRepository taskRepository, ArchivedTaskRepository archivedTaskRepository) {
+        this.taskRepository = taskRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+    }
+
+    /**
+     * 상태별 개수 (TaskStatus.ordinal() 순)
+     */
+    public synchronized long[] get(Long contextId) {
+        long[] values = counts.get(contextId);
+        return values != null ? values.clone() : EMPTY.clone();
+    }
+
+    /**
+     * Task 이동/상태 변경 반영 (트랜잭션 안이면 커밋 후 적용)
+     * 생성은 from이, 삭제는 to가 null 입니다.
+     */
+    public void changed(Long fromContextId, TaskStatus fromStatus, Long toContextId, TaskStatus toStatus) {
+        if (fromContextId != null && fromContextId.equals(toContextId) && fromStatus == toStatus) {
+            return;
+        }
+        apply(() -> {
+            if (fromContextId != null && fromStatus != null) {
+                counts.computeIfAbsent(fromContextId, id -> new long[EMPTY.length])[fromStatus.ordinal()]--;
+            }
+            if (toContextId != null && toStatus != null) {
+                counts.computeIfAbsent(toContextId, id -> new long[EMPTY.length])[toStatus.ordinal()]++;
+            }
+        });
+    }
+
+    /**
+     * Context 삭제(cascade) 반영 (트랜잭션 안이면 커밋 후 적용)
+     */
+    public void contextDeleted(Long contextId) {
+        apply(() -> counts.remove(contextId));
+    }
+
+    /**
+     * Context 간 일괄 이동 반영 (트랜잭션 안이면 커밋 후 적용)
+     */
+    public void contextReassigned(Long sourceId, Long targetId) {
+        apply(() -> {
+            long[] source = counts.remove(sourceId);
+            if (source != null) {
+                long[] target = counts.computeIfAbsent(targetId, id -> new long[EMPTY.length]);
+                for (int i = 0; i < target.length; i++) {
+                    target[i] += source[i];
+                }
+            }
+        });
+    }
+
+    /**
+     * 전체 재계산 (기동 시, 매시 정각)
+     * 집계 도중 증감이 반영됐거나, 커밋은 시작했지만 아직 반영되지 않은 쓰기가 있으면
+     * (집계에 이미 포함됐을 수 있으므로) 결과를 버리고 다시 시도합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.counters.reconcile-cron:0 0 * * * *}")
+    public void reconcile() {
+        for (int attempt = 1; attempt <= MAX_RECONCILE_ATTEMPTS; attempt++) {
+            long startGeneration = generation.get();
+
+            Map<Long, long[]> rebuilt = new HashMap<>();
+            accumulate(rebuilt, taskRepository.countGroupByContextIdAndStatus());
+            accumulate(rebuilt, archivedTaskRepository.countGroupByContextIdAndStatus());
+
+            synchronized (this) {
+                if (generation.get() == startGeneration && inFlight.get() == 0) {
+                    counts.clear();
+                    counts.putAll(rebuilt);
+                    log.debug("Reconciled task counters for {} contexts", rebuilt.size());
+                    return;
+                }
+            }
+        }
+        log.warn("Task counter reconcile skipped: concurrent writes kept changing counts");
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후 적용, 아니면 즉시 적용
+     * 커밋 직전부터 적용(또는 롤백)까지 inFlight로 잡아 둡니다.
+     */
+    private void apply(Runnable delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            synchronized (this) {
+                generation.incrementAndGet();
+                delta.run();
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean marked;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                inFlight.incrementAndGet();
+                marked = true;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                synchronized (ContextTaskCounters.this) {
+                    if (status == STATUS_COMMITTED) {
+                        generation.incrementAndGet();
+                        delta.run();
+                    }
+                    if (marked) {
+                        inFlight.decrementAndGet();
+                    }
+                }
+            }
+        });
+    }
+
+    private void accumulate(Map<Long, long[]> target, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            Long contextId = (Long) row[0];
+            TaskStatus status = (TaskStatus) row[1];
+            long count = ((Number) row[2]).longValue();
+            target.computeIfAbsent(contextId, id -> new long[EMPTY.length])[status.ordinal()] += count;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.devzip.commandstack.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Task / Context 데이터 버전
+ * 쓰기가 커밋될 때마다 단조 증가하며, 목록 조회의 강한 ETag로 사용됩니다.
+ * 재시작 후 이전 ETag가 우연히 일치하지 않도록 기동 시각에서 시작합니다.
+ */
+@Component
+public class DataVersion {
+
+    private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+
+    public long current() {
+        return version.get();
+    }
+
+    public String etag() {
+        return "\"v" + version.get() + "\"";
+    }
+
+    /**
+     * 버전 증가 (트랜잭션 안이면 커밋 후 적용)
+     */
+    public void bump() {
+        TransactionHooks.afterCommit(version::incrementAndGet);
+    }
+}
@@ -0,0 +1,214 @@
+package com.devzip.commandstack.service;
+
+import com.devzip.commandstack.domain.Task.TaskStatus;
+import com.devzip.commandstack.dto.response.ChangeEventResponse;
+import com.devzip.commandstack.dto.response.TaskResponse;
+import com.devzip.commandstack.repository.TaskIndexRow;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 마감 임박/초과 알림 스케줄러
+ * 미완료 Task의 마감 트리거를 시각 순 스킵 리스트에 두고, 가장 이른 트리거 시각까지만 대기합니다.
+ * 기동 시 한 번 적재한 뒤에는 Task 쓰기로만 갱신되며 DB를 주기적으로 조회하지 않습니다.
+ */
+@Component
+@Slf4j
+public class DeadlineScheduler {
+
+    public static final String ACTION_DEADLINE_APPROACHING = "deadline-approaching";
+    public static final String ACTION_OVERDUE = "overdue";
+
+    private final ChangeEventPublisher changeEventPublisher;
+    private final Duration approachingLead;
+
+    private final ConcurrentSkipListSet<Trigger> triggers = new ConcurrentSkipListSet<>(
+            Comparator.comparing(Trigger::fireAt)
+                    .thenComparing(Trigger::taskId)
+                    .thenComparing(Trigger::kind));
+    // taskId -> 현재 예약된 마감 시각
+    private final Map<Long, LocalDateTime> deadlines = new ConcurrentHashMap<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition headChanged = lock.newCondition();
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    public DeadlineScheduler(
+            ChangeEventPublisher changeEventPublisher,
+            @Value("${app.deadlines.approaching-lead-minutes:30}") long approachingLeadMinutes,
+            MeterRegistry meterRegistry) {
+        this.changeEventPublisher = changeEventPublisher;
+        this.approachingLead = Duration.ofMinutes(approachingLeadMinutes);
+        this.worker = new Thread(this::run, "deadline-scheduler");
+        this.worker.setDaemon(true);
+        Gauge.builder("tasks.deadlines.pending", triggers, ConcurrentSkipListSet::size)
+                .description("Scheduled deadline triggers")
+                .register(meterRegistry);
+    }
+
+    enum Kind {
+        APPROACHING,
+        OVERDUE
+    }
+
+    record Trigger(LocalDateTime fireAt, Long taskId, Kind kind, LocalDateTime deadline) {
+    }
+
+    /**
+     * 기동 시 적재 (TaskReadModelLoader의 스트리밍 적재, 마감이 있는 미완료 Task만)
+     * 이미 지난 트리거는 재발행하지 않으며, 적재 도중 upsert로 먼저 들어온 마감은 덮어쓰지 않습니다.
+     */
+    void add(TaskIndexRow row) {
+        if (row.deadline() == null || isFinished(row.status())) {
+            return;
+        }
+        if (deadlines.putIfAbsent(row.id(), row.deadline()) == null) {
+            scheduleTriggers(row.id(), row.deadline(), LocalDateTime.now(), false);
+        }
+    }
+
+    /**
+     * 적재 후 스케줄러 시작
+     */
+    void start() {
+        log.info("Loaded {} pending deadlines", deadlines.size());
+        worker.start();
+    }
+
+    /**
+     * Task 쓰기 반영 (트랜잭션 안이면 커밋 후 적용)
+     * 마감이 바뀐 경우에만 다시 예약하므로, 상태만 바뀐 Task에 알림이 중복되지 않습니다.
+     */
+    public void upsert(TaskResponse task) {
+        TransactionHooks.afterCommit(() -> {
+            if (isFinished(task.getStatus()) || task.getDeadline() == null) {
+                unschedule(task.getId());
+                return;
+            }
+            if (task.getDeadline().equals(deadlines.get(task.getId()))) {
+                return;
+            }
+            unschedule(task.getId());
+            deadlines.put(task.getId(), task.getDeadline());
+            scheduleTriggers(task.getId(), task.getDeadline(), LocalDateTime.now(), true);
+        });
+    }
+
+    /**
+     * Task 삭제 반영 (트랜잭션 안이면 커밋 후 적용)
+     */
+    public void remove(Long taskId) {
+        TransactionHooks.afterCommit(() -> unschedule(taskId));
+    }
+
+    /**
+     * 여러 Task 삭제 반영 (트랜잭션 안이면 커밋 후 적용)
+     */
+    public void removeAll(Collection<Long> taskIds) {
+        TransactionHooks.afterCommit(() -> taskIds.forEach(this::unschedule));
+    }
+
+    // 예약된 트리거 (시각 순)
+    List<Trigger> scheduledTriggers() {
+        return List.copyOf(triggers);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        worker.interrupt();
+    }
+
+    private static boolean isFinished(TaskStatus status) {
+        return status == TaskStatus.EXIT_SUCCESS || status == TaskStatus.SIGKILL;
+    }
+
+    private void scheduleTriggers(Long taskId, LocalDateTime deadline, LocalDateTime now, boolean includePast) {
+        LocalDateTime approachingAt = deadline.minus(approachingLead);
+        if (approachingAt.isAfter(now)) {
+            triggers.add(new Trigger(approachingAt, taskId, Kind.APPROACHING, deadline));
+        }
+        if (includePast || deadline.isAfter(now)) {
+            triggers.add(new Trigger(deadline, taskId, Kind.OVERDUE, deadline));
+        }
+        signal();
+    }
+
+    private void unschedule(Long taskId) {
+        LocalDateTime deadline = deadlines.remove(taskId);
+        if (deadline == null) {
+            return;
+        }
+        triggers.remove(new Trigger(deadline.minus(approachingLead), taskId, Kind.APPROACHING, deadline));
+        triggers.remove(new Trigger(deadline, taskId, Kind.OVERDUE, deadline));
+        signal();
+    }
+
+    private void signal() {
+        lock.lock();
+        try {
+            headChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                Trigger due = awaitNextDue();
+                if (due != null && triggers.remove(due)) {
+                    fire(due);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Deadline trigger failed", e);
+            }
+        }
+    }
+
+    // 가장 이른 트리거 시각까지 대기, 그 사이 더 이른 트리거가 들어오면 깨어나 다시 확인
+    private Trigger awaitNextDue() throws InterruptedException {
+        lock.lock();
+        try {
+            Trigger head = triggers.stream().findFirst().orElse(null);
+            if (head == null) {
+                headChanged.await();
+                return null;
+            }
+            long waitMillis = Duration.between(LocalDateTime.now(), head.fireAt()).toMillis();
+            if (waitMillis > 0) {
+                headChanged.await(waitMillis, TimeUnit.MILLISECONDS);
+                return null;
+            }
+            return head;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void fire(Trigger trigger) {
+        String action = trigger.kind() == Kind.APPROACHING ? ACTION_DEADLINE_APPROACHING : ACTION_OVERDUE;
+        log.info("Task {} {}: deadline {}", trigger.taskId(), action, trigger.deadline());
+        changeEventPublisher.publishTask(action, trigger.taskId(), Map.of("deadline", trigger.deadline()));
+    }
+}
@@ -0,0 +1,350 @@
+package com.devzip.commandstack.service;
+
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.http.HttpResponseException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Google API 호출 보호 계층
+ * - 토큰 버킷: 초당 허용 호출 수를 쿼터에 맞추고, 429/rateLimitExceeded를 받으면 속도를 절반으로 낮췄다가 성공할 때마다 천천히 회복
+ * - 재시도: 재시도 가능한 오류(429, 레이트 리밋 403, 5xx, 타임아웃/전송 오류)는 지터를 준 지수 백오프로 재시도
+ * - 서킷 브레이커: 서버 측 실패가 연속되면 일정 시간 즉시 실패시키고, 이후 한 건만 시험 호출
+ * 호출 타임아웃은 GoogleCalendarClients의 요청 초기화에서 지정합니다.
+ */
+@Component
+@Slf4j
+public class GoogleApiGuard {
+
+    private static final Set<String> RATE_LIMIT_REASONS = Set.of("rateLimitExceeded", "userRateLimitExceeded");
+
+    private final MeterRegistry meterRegistry;
+
+    // 토큰 버킷
+    private final double maxRate;
+    private final double minRate;
+    private final double burst;
+    private final long maxWaitNanos;
+    private double rate;
+    private double tokens;
+    private long refilledAt = System.nanoTime();
+
+    // 재시도
+    private final int maxAttempts;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+
+    // 서킷 브레이커
+    private final int failureThreshold;
+    private final long openNanos;
+    private CircuitState circuitState = CircuitState.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    private final Counter retries;
+    private final Counter rejected;
+    private final Counter throttled;
+
+    public GoogleApiGuard(
+            MeterRegistry meterRegistry,
+            @Value("${app.google.rate-limit.permits-per-second:10}") double permitsPerSecond,
+            @Value("${app.google.rate-limit.min-permits-per-second:1}") double minPermitsPerSecond,
+            @Value("${app.google.rate-limit.burst:20}") double burst,
+            @Value("${app.google.rate-limit.max-wait-ms:5000}") long maxWaitMillis,
+            @Value("${app.google.retry.max-attempts:4}") int maxAttempts,
+            @Value("${app.google.retry.base-delay-ms:500}") long baseDelayMillis,
+            @Value("${app.google.retry.max-delay-ms:8000}") long maxDelayMillis,
+            @Value("${app.google.circuit.failure-threshold:5}") int failureThreshold,
+            @Value("${app.google.circuit.open-seconds:30}") long openSeconds) {
+        this.meterRegistry = meterRegistry;
+        this.maxRate = permitsPerSecond;
+        this.minRate = Math.min(minPermitsPerSecond, permitsPerSecond);
+        this.burst = burst;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.rate = permitsPerSecond;
+        this.tokens = burst;
+        this.maxAttempts = maxAttempts;
+        this.baseDelayMillis = baseDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+        this.failureThreshold = failureThreshold;
+        this.openNanos = TimeUnit.SECONDS.toNanos(openSeconds);
+
+        this.retries = Counter.builder("google.api.retries")
+                .description("Google API calls retried after a retryable error")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("google.api.circuit.rejected")
+                .description("Google API calls rejected while the circuit was open")
+                .register(meterRegistry);
+        this.throttled = Counter.builder("google.api.rate-limit.throttled")
+                .description("Rate limit responses that lowered the request rate")
+                .register(meterRegistry);
+        Gauge.builder("google.api.circuit.state", this, guard -> guard.circuitState().ordinal())
+                .description("Circuit breaker state (0=closed, 1=open, 2=half-open)")
+                .register(meterRegistry);
+        Gauge.builder("google.api.rate-limit.rate", this, GoogleApiGuard::currentRate)
+                .description("Current permitted Google API calls per second")
+                .register(meterRegistry);
+        Gauge.builder("google.api.rate-limit.tokens", this, GoogleApiGuard::availableTokens)
+                .description("Tokens currently available in the bucket")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 호출 1건 실행 (재시도 포함)
+     */
+    public <T> T call(String operation, GoogleCall<T> call) throws IOException {
+        return call(operation, 1, true, call);
+    }
+
+    /**
+     * 호출 실행
+     * permits는 이 호출이 소비하는 쿼터 단위(배치 요청은 항목 수), retryable이 false면 재시도하지 않습니다.
+     * 배치처럼 다시 보낼 수 없는 호출은 retryable=false로 두고 호출자(아웃박스)가 재시도합니다.
+     */
+    public <T> T call(String operation, int permits, boolean retryable, GoogleCall<T> call) throws IOException {
+        for (int attempt = 1; ; attempt++) {
+            // 토큰 대기가 실패해도 시험 호출 권한을 쥔 채 남지 않도록 토큰을 먼저 확보
+            acquireTokens(operation, permits);
+            acquirePermission(operation);
+
+            long startedAt = System.nanoTime();
+            boolean settled = false;
+            try {
+                T result = call.execute();
+                record(operation, "success", startedAt);
+                settled = true;
+                onSuccess();
+                return result;
+            } catch (IOException e) {
+                record(operation, "failure", startedAt);
+                settled = true;
+                if (isRateLimited(e)) {
+                    throttle();
+                }
+                onFailure(isServerFailure(e));
+
+                if (!retryable || !isRetryable(e) || attempt >= maxAttempts) {
+                    throw e;
+                }
+                long delay = backoff(attempt);
+                retries.increment();
+                log.warn("Google API {} failed (attempt {}/{}), retrying in {} ms: {}",
+                        operation, attempt, maxAttempts, delay, e.getMessage());
+                sleep(delay);
+            } finally {
+                // 런타임 예외 등으로 결과를 반영하지 못했으면 시험 호출 권한만 반납 (HALF_OPEN에 갇히지 않게)
+                if (!settled) {
+                    record(operation, "failure", startedAt);
+                    releaseTrial();
+                }
+            }
+        }
+    }
+
+    /**
+     * 배치 응답의 항목별 실패 반영
+     * 배치 요청 자체가 성공해도 항목이 429/레이트 리밋 403이면 속도를 낮추고, 5xx/전송 오류면 서킷 실패로 셉니다.
+     * 클라이언트 오류(4xx)는 다른 항목의 성공을 지우지 않도록 무시합니다.
+     */
+    public void recordItemFailure(IOException e) {
+        if (isRateLimited(e)) {
+            throttle();
+        }
+        if (isServerFailure(e)) {
+            onFailure(true);
+        }
+    }
+
+    // ---- 서킷 브레이커 ----
+
+    private synchronized void acquirePermission(String operation) throws UnavailableException {
+        if (circuitState == CircuitState.OPEN && System.nanoTime() - openedAt >= openNanos) {
+            circuitState = CircuitState.HALF_OPEN;
+            trialInFlight = false;
+        }
+        if (circuitState == CircuitState.OPEN || (circuitState == CircuitState.HALF_OPEN && trialInFlight)) {
+            rejected.increment();
+            throw new UnavailableException("Circuit open, rejecting Google API " + operation);
+        }
+        if (circuitState == CircuitState.HALF_OPEN) {
+            trialInFlight = true;
+        }
+    }
+
+    private synchronized void releaseTrial() {
+        trialInFlight = false;
+    }
+
+    private synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        if (circuitState != CircuitState.CLOSED) {
+            log.info("Google API circuit closed");
+        }
+        circuitState = CircuitState.CLOSED;
+        trialInFlight = false;
+        // 성공할 때마다 속도를 조금씩 회복 (AIMD)
+        rate = Math.min(maxRate, rate + maxRate * 0.05);
+    }
+
+    private synchronized void onFailure(boolean serverFailure) {
+        if (!serverFailure) {
+            // Google이 정상 응답한 클라이언트 오류(4xx)는 장애로 보지 않음
+            if (circuitState == CircuitState.HALF_OPEN) {
+                circuitState = CircuitState.CLOSED;
+                trialInFlight = false;
+            }
+            consecutiveFailures = 0;
+            return;
+        }
+        consecutiveFailures++;
+        if (circuitState == CircuitState.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            if (circuitState != CircuitState.OPEN) {
+                log.warn("Google API circuit opened after {} consecutive failures", consecutiveFailures);
+            }
+            circuitState = CircuitState.OPEN;
+            openedAt = System.nanoTime();
+            trialInFlight = false;
+        }
+    }
+
+    synchronized CircuitState circuitState() {
+        return circuitState;
+    }
+
+    // ---- 토큰 버킷 ----
+
+    private void acquireTokens(String operation, int permits) throws IOException {
+        long deadline = System.nanoTime() + maxWaitNanos;
+        while (true) {
+            long waitNanos;
+            synchronized (this) {
+                refill();
+                // 버스트보다 큰 요청도 버킷이 가득 차면 통과시켜 영원히 기다리지 않게 함
+                double needed = Math.min(permits, burst);
+                if (tokens >= needed) {
+                    tokens -= permits;
+                    return;
+                }
+                waitNanos = (long) ((needed - tokens) / rate * TimeUnit.SECONDS.toNanos(1));
+            }
+            if (System.nanoTime() + waitNanos > deadline) {
+                throw new UnavailableException("Rate limit wait exceeded for Google API " + operation);
+            }
+            sleep(Math.max(1, TimeUnit.NANOSECONDS.toMillis(waitNanos)));
+        }
+    }
+
+    private synchronized void throttle() {
+        rate = Math.max(minRate, rate / 2);
+        tokens = Math.min(tokens, 0);
+        throttled.increment();
+        log.warn("Google API rate limited, lowering rate to {} calls/s", String.format("%.2f", rate));
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(burst, tokens + (now - refilledAt) / (double) TimeUnit.SECONDS.toNanos(1) * rate);
+        refilledAt = now;
+    }
+
+    synchronized double currentRate() {
+        return rate;
+    }
+
+    synchronized double availableTokens() {
+        refill();
+        return tokens;
+    }
+
+    // ---- 오류 분류 ----
+
+    private boolean isRateLimited(IOException e) {
+        if (!(e instanceof HttpResponseException response)) {
+            return false;
+        }
+        if (response.getStatusCode() == 429) {
+            return true;
+        }
+        if (response.getStatusCode() == 403 && e instanceof GoogleJsonResponseException json
+                && json.getDetails() != null && json.getDetails().getErrors() != null) {
+            return json.getDetails().getErrors().stream()
+                    .map(GoogleJsonError.ErrorInfo::getReason)
+                    .anyMatch(RATE_LIMIT_REASONS::contains);
+        }
+        return false;
+    }
+
+    // 응답을 받지 못했거나(타임아웃/전송 오류) 5xx면 서버 측 실패
+    private boolean isServerFailure(IOException e) {
+        if (e instanceof UnavailableException) {
+            return false;
+        }
+        if (e instanceof HttpResponseException response) {
+            return response.getStatusCode() >= 500 || response.getStatusCode() == 408;
+        }
+        return true;
+    }
+
+    private boolean isRetryable(IOException e) {
+        return !(e instanceof UnavailableException) && (isRateLimited(e) || isServerFailure(e));
+    }
+
+    // full jitter: 0 ~ min(max, base * 2^(attempt-1))
+    private long backoff(int attempt) {
+        long ceiling = Math.min(maxDelayMillis, baseDelayMillis << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private void record(String operation, String outcome, long startedAt) {
+        Timer.builder("google.api.calls")
+                .description("Google API call latency")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private static void sleep(long millis) throws InterruptedIOException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to call Google API");
+        }
+    }
+
+    enum CircuitState {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * Google 호출 본문
+     */
+    @FunctionalInterface
+    public interface GoogleCall<T> {
+        T execute() throws IOException;
+    }
+
+    /**
+     * 서킷이 열려 있거나 레이트 리밋 대기 한도를 넘겨 호출하지 않은 경우
+     */
+    public static class UnavailableException extends IOException {
+
+        public UnavailableException(String message) {
+            super(message);
+        }
+    }
+}
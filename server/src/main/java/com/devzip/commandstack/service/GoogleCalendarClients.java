@@ -0,0 +1,109 @@
+package com.devzip.commandstack.service;
+
+import com.devzip.commandstack.domain.User;
+import com.google.api.client.googleapis.apache.v2.GoogleApacheHttpTransport;
+import com.google.api.client.http.HttpRequestInitializer;
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.json.JsonFactory;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.services.calendar.Calendar;
+import com.google.auth.http.HttpCredentialsAdapter;
+import com.google.auth.oauth2.AccessToken;
+import com.google.auth.oauth2.GoogleCredentials;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 Google Calendar 클라이언트 레지스트리
+ * 커넥션 풀을 가진 HttpTransport 하나를 공유하고, 클라이언트는 Access Token이 바뀔 때만 다시 만듭니다.
+ * (요청마다 trust store 로딩과 TLS 핸드셰이크를 반복하지 않음)
+ * 모든 요청에 연결/읽기 타임아웃을 걸어, Google이 느릴 때 호출 스레드가 무한정 묶이지 않게 합니다.
+ */
+@Component
+@Slf4j
+public class GoogleCalendarClients {
+
+    private static final JsonFactory JSON_FACTORY = GsonFactory.getDefaultInstance();
+
+    private final TokenRefreshService tokenRefreshService;
+    private final String applicationName;
+    private final String rootUrl;
+    private final int connectTimeoutMillis;
+    private final int readTimeoutMillis;
+    private final HttpTransport httpTransport;
+    private final Map<Long, CachedClient> clients = new ConcurrentHashMap<>();
+
+    public GoogleCalendarClients(
+            TokenRefreshService tokenRefreshService,
+            @Value("${google.calendar.application-name:CommandStack}") String applicationName,
+            @Value("${google.calendar.root-url:}") String rootUrl,
+            @Value("${app.google.timeout.connect-ms:5000}") int connectTimeoutMillis,
+            @Value("${app.google.timeout.read-ms:15000}") int readTimeoutMillis)
+            throws GeneralSecurityException, IOException {
+        this.tokenRefreshService = tokenRefreshService;
+        this.applicationName = applicationName;
+        this.rootUrl = rootUrl;
+        this.connectTimeoutMillis = connectTimeoutMillis;
+        this.readTimeoutMillis = readTimeoutMillis;
+        this.httpTransport = GoogleApacheHttpTransport.newTrustedTransport();
+    }
+
+    /**
+     * 사용자의 Calendar 클라이언트 조회
+     * 토큰이 만료되었거나 곧 만료될 예정이면 먼저 갱신하고, 새 토큰으로 클라이언트를 교체합니다.
+     */
+    public Calendar get(User user) {
+        User refreshedUser = tokenRefreshService.refreshTokenIfNeeded(user);
+        String accessToken = refreshedUser.getAccessToken();
+
+        return clients.compute(refreshedUser.getId(), (id, cached) -> {
+            if (cached != null && Objects.equals(cached.accessToken(), accessToken)) {
+                return cached;
+            }
+            log.debug("Building Google Calendar client for user: {}", id);
+            return new CachedClient(accessToken, build(refreshedUser));
+        }).calendar();
+    }
+
+    @PreDestroy
+    public void shutdown() throws IOException {
+        clients.clear();
+        httpTransport.shutdown();
+    }
+
+    private Calendar build(User user) {
+        Date expiresAt = user.getTokenExpiresAt() != null
+                ? Date.from(user.getTokenExpiresAt().atZone(ZoneId.systemDefault()).toInstant())
+                : null;
+        GoogleCredentials credentials = GoogleCredentials.create(new AccessToken(user.getAccessToken(), expiresAt));
+        HttpCredentialsAdapter credentialsAdapter = new HttpCredentialsAdapter(credentials);
+
+        // 재시도는 GoogleApiGuard가 담당하므로 여기서는 인증 헤더와 타임아웃만 설정
+        HttpRequestInitializer initializer = request -> {
+            credentialsAdapter.initialize(request);
+            request.setConnectTimeout(connectTimeoutMillis);
+            request.setReadTimeout(readTimeoutMillis);
+        };
+
+        Calendar.Builder builder = new Calendar.Builder(httpTransport, JSON_FACTORY, initializer)
+                .setApplicationName(applicationName);
+        // 비어 있으면 googleapis.com 기본값 (부하 테스트에서는 로컬 가짜 서버)
+        if (!rootUrl.isBlank()) {
+            builder.setRootUrl(rootUrl);
+        }
+        return builder.build();
+    }
+
+    private record CachedClient(String accessToken, Calendar calendar) {
+    }
+}
@@ -1,35 +1,61 @@
 package com.devzip.commandstack.service;
 
+import com.devzip.commandstack.domain.CalendarOutbox;
+import com.devzip.commandstack.domain.CalendarOutbox.Operation;
+import com.devzip.commandstack.domain.CalendarSyncState;
 import com.devzip.commandstack.domain.Context;
 import com.devzip.commandstack.domain.Task;
+import com.devzip.commandstack.domain.TaskTombstone;
 import com.devzip.commandstack.domain.User;
+import com.devzip.commandstack.dto.response.ChangeEventResponse;
 import com.devzip.commandstack.dto.response.GoogleCalendarEventResponse;
+import com.devzip.commandstack.dto.response.TaskResponse;
+import com.devzip.commandstack.repository.ArchivedTaskRepository;
+import com.devzip.commandstack.repository.CalendarOutboxRepository;
+import com.devzip.commandstack.repository.CalendarSyncStateRepository;
 import com.devzip.commandstack.repository.ContextRepository;
 import com.devzip.commandstack.repository.TaskRepository;
-import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
-import com.google.api.client.http.HttpTransport;
-import com.google.api.client.json.JsonFactory;
-import com.google.api.client.json.gson.GsonFactory;
+import com.devzip.commandstack.repository.TaskTombstoneRepository;
+import com.devzip.commandstack.service.CalendarFetchExecutor.Outcome;
+import com.google.api.client.googleapis.batch.BatchRequest;
+import com.google.api.client.googleapis.batch.json.JsonBatchCallback;
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponseException;
+import com.google.api.client.util.Data;
 import com.google.api.services.calendar.Calendar;
+import com.google.api.services.calendar.model.CalendarList;
+import com.google.api.services.calendar.model.CalendarListEntry;
 import com.google.api.services.calendar.model.Event;
+import com.google.api.services.calendar.model.Event.ExtendedProperties;
 import com.google.api.services.calendar.model.EventDateTime;
 import com.google.api.services.calendar.model.Events;
-import com.google.auth.http.HttpCredentialsAdapter;
-import com.google.auth.oauth2.AccessToken;
-import com.google.auth.oauth2.GoogleCredentials;
+import jakarta.persistence.EntityManager;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.IOException;
-import java.security.GeneralSecurityException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -38,45 +64,144 @@ import lombok.RequiredArgsConstructor;
 public class GoogleCalendarService {
 
     private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
     private final ContextRepository contextRepository;
-    private final TokenRefreshService tokenRefreshService;
-    private static final JsonFactory JSON_FACTORY = GsonFactory.getDefaultInstance();
+    private final TaskTombstoneRepository taskTombstoneRepository;
+    private final CalendarSyncStateRepository syncStateRepository;
+    private final CalendarOutboxRepository outboxRepository;
+    private final GoogleCalendarClients googleCalendarClients;
+    private final GoogleApiGuard googleApiGuard;
+    private final CalendarEventCache calendarEventCache;
+    private final CalendarFetchExecutor calendarFetchExecutor;
+    private final TaskReadModels taskReadModels;
+    private final ContextTaskCounters contextTaskCounters;
+    private final DataVersion dataVersion;
+    private final ChangeEventPublisher changeEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    private static final String PRIMARY_CALENDAR_ID = "primary";
+    private static final String STATUS_CANCELLED = "cancelled";
+    // Google 배치 요청 한 건에 담을 수 있는 최대 호출 수
+    private static final int MAX_BATCH_SIZE = 50;
+    // events.list 페이지 최대 크기
+    private static final int MAX_PAGE_SIZE = 2500;
+    // 전체 동기화 범위(1주일 전 ~ 3개월 후)가 하루 이상 이동하면 다시 전체 동기화
+    private static final Duration FULL_RESYNC_INTERVAL = Duration.ofDays(1);
+    // 부분 응답 마스크: 쓰기 응답은 id/etag만, 목록은 GoogleCalendarEventResponse/동기화에 쓰는 속성만 받음
+    private static final String WRITE_FIELDS = "id,etag";
+    private static final String LIST_FIELDS = "nextPageToken,nextSyncToken,"
+            + "items(id,etag,status,summary,description,start,end,htmlLink,extendedProperties/private)";
+    // 아웃박스가 만든 이벤트에 심는 로컬 Task id (이 앱에서만 보이는 private 확장 속성)
+    private static final String TASK_ID_PROPERTY = "commandstackTaskId";
+    private static final String CALENDAR_LIST_FIELDS = "nextPageToken,items(id,summary,backgroundColor,primary,selected)";
 
-    @Value("${google.calendar.application-name:CommandStack}")
-    private String applicationName;
+    /**
+     * 사용자의 Calendar 서비스 객체 조회 (공유 트랜스포트 위의 캐시된 클라이언트)
+     */
+    private Calendar getCalendarService(User user) {
+        return googleCalendarClients.get(user);
+    }
 
     /**
-     * 사용자의 Access Token으로 Calendar 서비스 객체 생성
-     * 토큰이 만료되었거나 곧 만료될 예정이면 자동으로 갱신합니다.
+     * 이벤트 쓰기 묶음 전송 (배치 요청당 최대 50건)
+     * 결과는 writes와 같은 순서로 반환되며, 항목별 실패는 결과의 error에 담깁니다.
+     * 배치 요청 자체가 실패하면 IOException을 던집니다. (배치는 다시 보낼 수 없으므로 재시도는 아웃박스가 담당)
      */
-    private Calendar getCalendarService(User user) throws GeneralSecurityException, IOException {
-        // 토큰이 만료되었거나 곧 만료될 예정이면 자동 갱신
-        User refreshedUser = tokenRefreshService.refreshTokenIfNeeded(user);
+    public List<EventWriteResult> writeEvents(User user, List<EventWrite> writes) throws IOException {
+        Calendar service = getCalendarService(user);
+        EventWriteResult[] results = new EventWriteResult[writes.size()];
+
+        int batches = 0;
+        List<Integer> indexes = new ArrayList<>();
+        for (int i = 0; i < writes.size(); i++) {
+            indexes.add(i);
+        }
+        try {
+            for (List<Integer> chunk : chunks(indexes)) {
+                BatchRequest batch = service.batch();
+                for (int i : chunk) {
+                    queueWrite(service, batch, writes.get(i), results, i);
+                }
+                googleApiGuard.call("events.batch", chunk.size(), false, () -> {
+                    batch.execute();
+                    return null;
+                });
+                batches++;
+                // 항목별 429/403/5xx도 속도 조절과 서킷에 반영
+                for (int i : chunk) {
+                    if (results[i] != null && !results[i].isSuccess()) {
+                        googleApiGuard.recordItemFailure(results[i].error());
+                    }
+                }
+            }
+        } finally {
+            // 일부 배치만 전송되었더라도 이미 반영된 쓰기가 있을 수 있음
+            calendarEventCache.invalidate(user.getId());
+        }
 
-        HttpTransport httpTransport = GoogleNetHttpTransport.newTrustedTransport();
+        log.info("Applied {} Google Calendar writes in {} batch(es)", writes.size(), batches);
+        return Arrays.asList(results);
+    }
 
-        // Access Token으로 credentials 생성
-        AccessToken accessToken = new AccessToken(
-                refreshedUser.getAccessToken(),
-                Date.from(refreshedUser.getTokenExpiresAt().atZone(ZoneId.systemDefault()).toInstant()));
-        GoogleCredentials credentials = GoogleCredentials.create(accessToken);
+    private void queueWrite(Calendar service, BatchRequest batch, EventWrite write,
+            EventWriteResult[] results, int index) throws IOException {
+        JsonBatchCallback<Event> eventCallback = new JsonBatchCallback<>() {
+            @Override
+            public void onSuccess(Event event, HttpHeaders responseHeaders) {
+                results[index] = EventWriteResult.succeeded(event.getId(), event.getEtag());
+            }
 
-        return new Calendar.Builder(httpTransport, JSON_FACTORY, new HttpCredentialsAdapter(credentials))
-                .setApplicationName(applicationName)
-                .build();
+            @Override
+            public void onFailure(GoogleJsonError error, HttpHeaders responseHeaders) {
+                results[index] = EventWriteResult.failed(error, responseHeaders);
+            }
+        };
+
+        switch (write.operation()) {
+            case CREATE -> service.events().insert(calendarOf(write.calendarId()), toEvent(write.task(), true))
+                    .setFields(WRITE_FIELDS)
+                    .queue(batch, eventCallback);
+            // Task가 관리하는 필드만 보내므로 Google 쪽에서 추가한 참석자/장소 등은 유지됨
+            case UPDATE -> service.events().patch(calendarOf(write.calendarId()), write.googleEventId(),
+                            toEvent(write.task(), false))
+                    .setFields(WRITE_FIELDS)
+                    .queue(batch, eventCallback);
+            case DELETE -> service.events().delete(calendarOf(write.calendarId()), write.googleEventId())
+                    .queue(batch, new JsonBatchCallback<Void>() {
+                        @Override
+                        public void onSuccess(Void content, HttpHeaders responseHeaders) {
+                            results[index] = EventWriteResult.succeeded(write.googleEventId(), null);
+                        }
+
+                        @Override
+                        public void onFailure(GoogleJsonError error, HttpHeaders responseHeaders) {
+                            // 이미 지워진 이벤트(404/410)는 성공으로 취급
+                            results[index] = error.getCode() == 404 || error.getCode() == 410
+                                    ? EventWriteResult.succeeded(write.googleEventId(), null)
+                                    : EventWriteResult.failed(error, responseHeaders);
+                        }
+                    });
+        }
     }
 
     /**
-     * Task를 Google Calendar 이벤트로 생성
+     * Task 내용으로 이벤트 본문 생성 (생성/패치 공용)
+     * 생성 시에는 시간이 없어도 기본 시간대를 채우고, 패치 시에는 시간이 있을 때만 포함합니다.
+     * 패치에서 null 필드는 생략되어 Google 값이 유지되므로, 지운 설명은 Data.NULL_STRING으로 명시해 비웁니다.
+     * 시작/종료는 Google 이벤트의 필수 필드라 비울 수 없으므로, 두 날짜를 모두 지우면 기존 시간을 그대로 둡니다.
+     * 생성 시 로컬 Task id를 확장 속성으로 심어, 연결 전에 동기화가 먼저 이벤트를 보더라도 같은 Task로 연결합니다.
      */
-    public String createEvent(User user, Task task) {
-        try {
-            Calendar service = getCalendarService(user);
-
-            Event event = new Event()
-                    .setSummary(task.getSyntax())
-                    .setDescription(task.getDetails());
+    private Event toEvent(Task task, boolean creating) {
+        Event event = new Event();
+        event.setSummary(task.getSyntax());
+        event.setDescription(task.getDetails() != null || creating ? task.getDetails() : Data.NULL_STRING);
+        if (creating) {
+            event.setExtendedProperties(new ExtendedProperties()
+                    .setPrivate(Map.of(TASK_ID_PROPERTY, String.valueOf(task.getId()))));
+        }
 
+        if (creating || task.getDeadline() != null || task.getStartedAt() != null) {
             // 시작 시간 설정 (startedAt이 있으면 사용, 없으면 deadline-1시간 또는 현재 시간)
             LocalDateTime startTime = task.getStartedAt() != null
                     ? task.getStartedAt()
@@ -86,205 +211,520 @@ public class GoogleCalendarService {
                     : (task.getStartedAt() != null ? task.getStartedAt().plusHours(1)
                             : LocalDateTime.now().plusHours(1));
 
-            EventDateTime start = new EventDateTime()
-                    .setDateTime(new com.google.api.client.util.DateTime(
-                            Date.from(startTime.atZone(ZoneId.systemDefault()).toInstant())))
-                    .setTimeZone("Asia/Seoul");
+            event.setStart(toEventDateTime(startTime));
+            event.setEnd(toEventDateTime(endTime));
+        }
+        return event;
+    }
+
+    private EventDateTime toEventDateTime(LocalDateTime dateTime) {
+        return new EventDateTime()
+                .setDateTime(toDateTime(dateTime))
+                .setTimeZone("Asia/Seoul");
+    }
 
-            EventDateTime end = new EventDateTime()
-                    .setDateTime(new com.google.api.client.util.DateTime(
-                            Date.from(endTime.atZone(ZoneId.systemDefault()).toInstant())))
-                    .setTimeZone("Asia/Seoul");
+    private static List<List<Integer>> chunks(List<Integer> indexes) {
+        List<List<Integer>> chunks = new ArrayList<>();
+        for (int from = 0; from < indexes.size(); from += MAX_BATCH_SIZE) {
+            chunks.add(indexes.subList(from, Math.min(from + MAX_BATCH_SIZE, indexes.size())));
+        }
+        return chunks;
+    }
 
-            event.setStart(start);
-            event.setEnd(end);
+    /**
+     * 이벤트 쓰기 항목 (CREATE는 task, DELETE는 googleEventId, UPDATE는 둘 다 사용)
+     * calendarId가 null이면 primary 캘린더입니다.
+     */
+    public record EventWrite(Operation operation, String calendarId, Task task, String googleEventId) {
+    }
 
-            Event createdEvent = service.events().insert("primary", event).execute();
-            log.info("Created Google Calendar event: {}", createdEvent.getId());
+    /**
+     * 이벤트 쓰기 결과 (성공 시 이벤트 id와 쓰기 후 etag, 실패 시 error)
+     * etag는 Task.googleEtag에 저장해 다음 동기화가 자기 쓰기를 다시 가져오지 않게 합니다. (DELETE는 null)
+     */
+    public record EventWriteResult(String googleEventId, String etag, IOException error) {
 
-            return createdEvent.getId();
-        } catch (Exception e) {
-            log.error("Failed to create Google Calendar event", e);
-            return null;
+        static EventWriteResult succeeded(String googleEventId, String etag) {
+            return new EventWriteResult(googleEventId, etag, null);
+        }
+
+        static EventWriteResult failed(GoogleJsonError error, HttpHeaders responseHeaders) {
+            return new EventWriteResult(null, null, new GoogleJsonResponseException(
+                    new HttpResponseException.Builder(error.getCode(), error.getMessage(), responseHeaders),
+                    error));
+        }
+
+        public boolean isSuccess() {
+            return error == null;
         }
     }
 
     /**
-     * Google Calendar 이벤트 업데이트
+     * Google Calendar 이벤트 목록 조회 (선택된 캘린더 전체, 모든 페이지)
+     * 캘린더별 조회는 동시에 실행되고, 결과는 시작 시간순으로 합칩니다.
      */
-    public void updateEvent(User user, Task task) {
-        if (task.getGoogleEventId() == null) {
-            log.warn("Task has no Google Event ID, skipping update");
-            return;
+    public List<GoogleCalendarEventResponse> getEvents(User user, LocalDateTime start, LocalDateTime end) {
+        List<GoogleCalendarEventResponse> cached = calendarEventCache.get(user.getId(), start, end);
+        if (cached != null) {
+            return cached;
         }
+        // 조회 도중 쓰기로 무효화되면 이 결과는 캐시하지 않음
+        long cacheGeneration = calendarEventCache.generation(user.getId());
+
+        List<GoogleCalendarEventResponse> result = new ArrayList<>();
 
         try {
             Calendar service = getCalendarService(user);
-
-            Event event = service.events().get("primary", task.getGoogleEventId()).execute();
-            event.setSummary(task.getSyntax());
-            event.setDescription(task.getDetails());
-
-            if (task.getDeadline() != null || task.getStartedAt() != null) {
-                LocalDateTime startTime = task.getStartedAt() != null
-                        ? task.getStartedAt()
-                        : (task.getDeadline() != null ? task.getDeadline().minusHours(1) : LocalDateTime.now());
-                LocalDateTime endTime = task.getDeadline() != null
-                        ? task.getDeadline()
-                        : (task.getStartedAt() != null ? task.getStartedAt().plusHours(1)
-                                : LocalDateTime.now().plusHours(1));
-
-                EventDateTime start = new EventDateTime()
-                        .setDateTime(new com.google.api.client.util.DateTime(
-                                Date.from(startTime.atZone(ZoneId.systemDefault()).toInstant())))
-                        .setTimeZone("Asia/Seoul");
-
-                EventDateTime end = new EventDateTime()
-                        .setDateTime(new com.google.api.client.util.DateTime(
-                                Date.from(endTime.atZone(ZoneId.systemDefault()).toInstant())))
-                        .setTimeZone("Asia/Seoul");
-
-                event.setStart(start);
-                event.setEnd(end);
+            List<CalendarListEntry> calendars = selectedCalendars(service);
+
+            List<Callable<List<GoogleCalendarEventResponse>>> fetches = calendars.stream()
+                    .<Callable<List<GoogleCalendarEventResponse>>>map(calendar ->
+                            () -> listEvents(service, calendarKey(calendar), start, end))
+                    .toList();
+            List<Outcome<List<GoogleCalendarEventResponse>>> outcomes =
+                    calendarFetchExecutor.invokeAll(user.getId(), fetches);
+
+            boolean complete = true;
+            for (int i = 0; i < outcomes.size(); i++) {
+                Outcome<List<GoogleCalendarEventResponse>> outcome = outcomes.get(i);
+                if (outcome.isSuccess()) {
+                    result.addAll(outcome.value());
+                } else {
+                    complete = false;
+                    log.error("Failed to get events from calendar: {}", calendars.get(i).getId(), outcome.error());
+                }
             }
+            result.sort(Comparator.comparing(event -> parseDateTime(event.getStart())));
 
-            service.events().update("primary", task.getGoogleEventId(), event).execute();
-            log.info("Updated Google Calendar event: {}", task.getGoogleEventId());
+            log.info("Retrieved {} events from {} Google calendars", result.size(), calendars.size());
+            // 실패한 조회(빈 결과/일부 캘린더 누락)는 캐시하지 않음
+            if (complete) {
+                calendarEventCache.put(user.getId(), cacheGeneration, start, end, result);
+            }
         } catch (Exception e) {
-            log.error("Failed to update Google Calendar event", e);
+            log.error("Failed to get Google Calendar events", e);
         }
+
+        return result;
+    }
+
+    private List<GoogleCalendarEventResponse> listEvents(Calendar service, String calendarId,
+            LocalDateTime start, LocalDateTime end) throws IOException {
+        Calendar.Events.List request = service.events().list(calendarId)
+                .setTimeMin(toDateTime(start))
+                .setTimeMax(toDateTime(end))
+                .setOrderBy("startTime")
+                .setSingleEvents(true)
+                .setMaxResults(MAX_PAGE_SIZE);
+
+        return fetchAll(request).items().stream()
+                .map(event -> toResponse(calendarId, event))
+                .toList();
     }
 
     /**
-     * Google Calendar 이벤트 삭제
+     * Google Calendar 이벤트를 Task로 동기화 (Google -> DB)
+     * calendarList에서 선택된 캘린더(primary 포함)를 동시에 조회하고, 캘린더별 Context에 반영합니다.
+     * 저장된 syncToken이 있으면 변경분만 가져오고, 토큰이 만료(410 Gone)되었거나 마지막 전체 동기화 후
+     * FULL_RESYNC_INTERVAL이 지났으면 전체 동기화합니다. (토큰은 처음 범위 밖의 이벤트를 가져오지 않음)
+     * Google 호출이 끝난 뒤에 캘린더별로 DB 트랜잭션을 엽니다.
+     * 실패한 캘린더는 로그만 남기고 건너뛰며, 모든 캘린더가 반영되었으면 true를 반환합니다.
      */
-    public void deleteEvent(User user, String eventId) {
-        if (eventId == null) {
-            return;
-        }
-
+    public boolean syncEventsFromGoogle(User user) {
+        Calendar service;
+        List<CalendarListEntry> calendars;
         try {
-            Calendar service = getCalendarService(user);
-            service.events().delete("primary", eventId).execute();
-            log.info("Deleted Google Calendar event: {}", eventId);
+            service = getCalendarService(user);
+            calendars = selectedCalendars(service);
         } catch (Exception e) {
-            log.error("Failed to delete Google Calendar event", e);
+            log.error("Failed to list Google calendars", e);
+            return false;
+        }
+
+        LocalDateTime fullSyncDue = LocalDateTime.now().minus(FULL_RESYNC_INTERVAL);
+        Map<String, String> syncTokens = new HashMap<>();
+        syncStateRepository.findByUserId(user.getId()).stream()
+                .filter(state -> state.getSyncToken() != null)
+                .filter(state -> state.getFullSyncedAt() != null && state.getFullSyncedAt().isAfter(fullSyncDue))
+                .forEach(state -> syncTokens.put(state.getCalendarId(), state.getSyncToken()));
+
+        List<Callable<EventPage>> fetches = calendars.stream()
+                .<Callable<EventPage>>map(calendar -> () -> {
+                    String calendarId = calendarKey(calendar);
+                    return fetchChanges(service, calendarId, syncTokens.get(calendarId));
+                })
+                .toList();
+        List<Outcome<EventPage>> outcomes = calendarFetchExecutor.invokeAll(user.getId(), fetches);
+
+        int changed = 0;
+        boolean complete = true;
+        for (int i = 0; i < outcomes.size(); i++) {
+            CalendarListEntry calendar = calendars.get(i);
+            Outcome<EventPage> outcome = outcomes.get(i);
+            if (!outcome.isSuccess()) {
+                log.error("Failed to fetch changes from calendar: {}", calendar.getId(), outcome.error());
+                complete = false;
+                continue;
+            }
+            Integer applied = transactionTemplate.execute(status -> applyChanges(user, calendar, outcome.value()));
+            changed += applied != null ? applied : 0;
+        }
+
+        if (changed > 0) {
+            dataVersion.bump();
+            // 개별 이벤트 대신 재조회 신호 한 건만 발행 (구독자 버퍼 보호)
+            changeEventPublisher.publishTask(ChangeEventResponse.ACTION_RESYNC, null, null);
         }
+        log.info("Synced {} changed events from {} Google calendars for user: {}", changed, calendars.size(),
+                user.getEmail());
+        return complete;
     }
 
     /**
-     * Google Calendar 이벤트 목록 조회
+     * 동기화/조회 대상 캘린더 (calendarList에서 선택된 캘린더, primary는 항상 포함)
      */
-    public List<GoogleCalendarEventResponse> getEvents(User user, LocalDateTime start, LocalDateTime end) {
-        List<GoogleCalendarEventResponse> result = new ArrayList<>();
+    private List<CalendarListEntry> selectedCalendars(Calendar service) throws IOException {
+        List<CalendarListEntry> calendars = new ArrayList<>();
+        String pageToken = null;
+        do {
+            Calendar.CalendarList.List request = service.calendarList().list()
+                    .setMinAccessRole("reader")
+                    .setFields(CALENDAR_LIST_FIELDS)
+                    .setPageToken(pageToken);
+            CalendarList page = googleApiGuard.call("calendarList.list", request::execute);
+            if (page.getItems() != null) {
+                page.getItems().stream()
+                        .filter(calendar -> Boolean.TRUE.equals(calendar.getPrimary())
+                                || Boolean.TRUE.equals(calendar.getSelected()))
+                        .forEach(calendars::add);
+            }
+            pageToken = page.getNextPageToken();
+        } while (pageToken != null);
+        return calendars;
+    }
 
+    /**
+     * 변경 이벤트 조회, 토큰이 만료(410 Gone)되었으면 전체 동기화로 다시 조회
+     */
+    private EventPage fetchChanges(Calendar service, String calendarId, String syncToken) throws IOException {
         try {
-            Calendar service = getCalendarService(user);
+            return fetchChangesSince(service, calendarId, syncToken);
+        } catch (GoogleJsonResponseException e) {
+            if (e.getStatusCode() != 410 || syncToken == null) {
+                throw e;
+            }
+            log.info("Sync token expired for calendar: {}, running full sync", calendarId);
+            return fetchChangesSince(service, calendarId, null);
+        }
+    }
 
-            com.google.api.client.util.DateTime timeMin = new com.google.api.client.util.DateTime(
-                    Date.from(start.atZone(ZoneId.systemDefault()).toInstant()));
-            com.google.api.client.util.DateTime timeMax = new com.google.api.client.util.DateTime(
-                    Date.from(end.atZone(ZoneId.systemDefault()).toInstant()));
-
-            Events events = service.events().list("primary")
-                    .setTimeMin(timeMin)
-                    .setTimeMax(timeMax)
-                    .setOrderBy("startTime")
-                    .setSingleEvents(true)
-                    .setMaxResults(100)
-                    .execute();
-
-            List<Event> items = events.getItems();
-            if (items != null) {
-                for (Event event : items) {
-                    boolean isAllDay = event.getStart().getDate() != null;
-
-                    String startStr = isAllDay
-                            ? event.getStart().getDate().toString()
-                            : event.getStart().getDateTime().toString();
-                    String endStr = isAllDay
-                            ? event.getEnd().getDate().toString()
-                            : event.getEnd().getDateTime().toString();
-
-                    result.add(GoogleCalendarEventResponse.builder()
-                            .id(event.getId())
-                            .summary(event.getSummary())
-                            .description(event.getDescription())
-                            .start(startStr)
-                            .end(endStr)
-                            .htmlLink(event.getHtmlLink())
-                            .isAllDay(isAllDay)
-                            .build());
+    /**
+     * 변경 이벤트 조회 (syncToken이 없으면 1주일 전 ~ 3개월 후 범위 전체)
+     * syncToken과 함께 쓸 수 없는 범위/정렬 조건은 전체 동기화에서만 지정합니다.
+     */
+    private EventPage fetchChangesSince(Calendar service, String calendarId, String syncToken) throws IOException {
+        Calendar.Events.List request = service.events().list(calendarId)
+                .setSingleEvents(true)
+                .setMaxResults(MAX_PAGE_SIZE);
+
+        if (syncToken != null) {
+            request.setSyncToken(syncToken);
+            return fetchAll(request);
+        }
+        LocalDateTime fetchedAt = LocalDateTime.now();
+        SyncWindow window = new SyncWindow(fetchedAt.minusWeeks(1), fetchedAt.plusMonths(3), fetchedAt);
+        request.setTimeMin(toDateTime(window.timeMin()))
+                .setTimeMax(toDateTime(window.timeMax()));
+        EventPage page = fetchAll(request);
+        return new EventPage(page.items(), page.nextSyncToken(), window);
+    }
+
+    /**
+     * nextPageToken을 끝까지 따라가며 조회 (nextSyncToken은 마지막 페이지에만 있음)
+     */
+    private EventPage fetchAll(Calendar.Events.List request) throws IOException {
+        List<Event> items = new ArrayList<>();
+        String pageToken = null;
+        Events page;
+        do {
+            request.setPageToken(pageToken).setFields(LIST_FIELDS);
+            page = googleApiGuard.call("events.list", request::execute);
+            if (page.getItems() != null) {
+                items.addAll(page.getItems());
+            }
+            pageToken = page.getNextPageToken();
+        } while (pageToken != null);
+
+        return new EventPage(items, page.getNextSyncToken(), null);
+    }
+
+    /**
+     * 한 캘린더의 변경분 반영 (호출자 트랜잭션에 참여), 반영된 Task 수 반환
+     */
+    private int applyChanges(User user, CalendarListEntry calendar, EventPage changes) {
+        String calendarId = calendarKey(calendar);
+        // Task에는 primary를 null로 저장 (기존 데이터와 호환)
+        String taskCalendarId = PRIMARY_CALENDAR_ID.equals(calendarId) ? null : calendarId;
+
+        // 1. 캘린더 Context 확인 및 생성
+        CalendarSyncState state = syncStateRepository.findByUserIdAndCalendarId(user.getId(), calendarId)
+                .orElseGet(() -> CalendarSyncState.builder()
+                        .userId(user.getId())
+                        .calendarId(calendarId)
+                        .build());
+        Context calendarContext = Optional.ofNullable(state.getContextId())
+                .flatMap(contextRepository::findById)
+                .orElseGet(() -> resolveContext(calendar));
+        state.assignContext(calendarContext.getId());
+
+        // 2. 대상 Task를 한 번에 조회해 메모리에서 병합
+        Set<String> eventIds = changes.items().stream().map(Event::getId).collect(Collectors.toSet());
+        Map<String, Task> existing = eventIds.isEmpty() ? new HashMap<>()
+                : taskRepository.findByGoogleEventIdIn(eventIds).stream()
+                        .filter(task -> Objects.equals(task.getGoogleCalendarId(), taskCalendarId))
+                        .collect(Collectors.toMap(Task::getGoogleEventId, Function.identity(), (a, b) -> a));
+        // 이미 보관 계층으로 옮겨진 완료 Task는 다시 만들지 않음
+        Set<String> archived = eventIds.isEmpty() ? Set.of()
+                : new HashSet<>(archivedTaskRepository.findGoogleEventIdsIn(eventIds));
+        // 아웃박스가 만들었지만 아직 연결되지 않은 이벤트는 새 Task로 가져오지 않고 원래 Task에 연결
+        List<Task> linked = new ArrayList<>();
+        Set<String> ownedEvents = linkOwnedEvents(user, changes.items(), existing, linked);
+
+        List<Task> created = new ArrayList<>();
+        List<Task> updated = new ArrayList<>();
+        Map<Long, Task> deleted = new LinkedHashMap<>();
+        for (Event item : changes.items()) {
+            Task task = existing.get(item.getId());
+
+            // Google에서 삭제된 이벤트는 로컬 Task 삭제로 반영
+            if (STATUS_CANCELLED.equals(item.getStatus())) {
+                if (task != null) {
+                    deleted.put(task.getId(), task);
                 }
+                continue;
+            }
+            if (archived.contains(item.getId()) || ownedEvents.contains(item.getId())) {
+                continue;
+            }
+            // etag가 같으면 마지막 반영 이후 바뀐 내용이 없음
+            if (task != null && Objects.equals(task.getGoogleEtag(), item.getEtag())) {
+                continue;
             }
 
-            log.info("Retrieved {} events from Google Calendar", result.size());
-        } catch (Exception e) {
-            log.error("Failed to get Google Calendar events", e);
+            GoogleCalendarEventResponse event = toResponse(calendarId, item);
+            LocalDateTime deadline = parseDateTime(event.getEnd());
+            LocalDateTime startedAt = parseDateTime(event.getStart());
+
+            if (task != null) {
+                // 기존 Task 업데이트
+                task.update(
+                        event.getSummary(),
+                        event.getDescription(),
+                        Task.TaskType.SCHEDULE,
+                        task.getContextId(), // 기존 컨텍스트 유지
+                        startedAt,
+                        deadline,
+                        true // syncToGoogle 유지
+                );
+                task.setGoogleEtag(item.getEtag());
+                updated.add(task);
+            } else {
+                // 새 Task 생성
+                Task newTask = Task.builder()
+                        .syntax(event.getSummary())
+                        .details(event.getDescription())
+                        .status(Task.TaskStatus.PENDING) // 혹은 SCHEDULE용 상태가 있다면?
+                        .type(Task.TaskType.SCHEDULE)
+                        .contextId(calendarContext.getId())
+                        .deadline(deadline)
+                        .startedAt(startedAt)
+                        .googleEventId(event.getId())
+                        .googleCalendarId(taskCalendarId)
+                        .googleEtag(item.getEtag())
+                        .syncToGoogle(true)
+                        .userId(user.getId())
+                        .build();
+                created.add(newTask);
+                existing.put(event.getId(), newTask);
+            }
         }
 
-        return result;
+        // 전체 동기화면 범위 안에 있어야 할 연결 Task 중 목록에 없는 것(토큰 만료 중 삭제 등)을 삭제로 반영
+        if (changes.window() != null) {
+            findMissingInWindow(user, taskCalendarId, changes).forEach(task -> deleted.put(task.getId(), task));
+        }
+
+        // 3. 일괄 반영 (INSERT는 시퀀스 id로 배치, UPDATE는 dirty checking으로 배치 flush)
+        List<Task> saved = taskRepository.saveAll(created);
+        if (!deleted.isEmpty()) {
+            // 변경된 관리 엔티티가 벌크 DELETE 뒤에 UPDATE로 flush 되지 않도록 먼저 분리
+            deleted.values().forEach(entityManager::detach);
+            taskRepository.deleteAllByIdInBatch(deleted.keySet());
+            taskTombstoneRepository.saveAll(deleted.keySet().stream()
+                    .map(id -> TaskTombstone.builder().taskId(id).build())
+                    .toList());
+        }
+
+        saved.forEach(task -> {
+            taskReadModels.saved(TaskResponse.from(task));
+            contextTaskCounters.changed(null, null, task.getContextId(), task.getStatus());
+        });
+        updated.stream()
+                .filter(task -> !deleted.containsKey(task.getId()))
+                .forEach(task -> taskReadModels.saved(TaskResponse.from(task)));
+        linked.forEach(task -> taskReadModels.saved(TaskResponse.from(task)));
+        taskReadModels.deletedAll(deleted.keySet());
+        deleted.values().forEach(task ->
+                contextTaskCounters.changed(task.getContextId(), task.getStatus(), null, null));
+
+        // 4. 다음 동기화용 토큰 저장 (변경 반영과 같은 트랜잭션)
+        if (changes.window() != null) {
+            state.fullSynced(changes.nextSyncToken());
+        } else {
+            state.synced(changes.nextSyncToken());
+        }
+        syncStateRepository.save(state);
+
+        return saved.size() + updated.size() + deleted.size() + linked.size();
     }
 
     /**
-     * Google Calendar 이벤트를 Task로 동기화 (Google -> DB)
+     * 전체 동기화 범위에 걸친 연결 Task 중 Google 목록에 없는 Task
+     * 아웃박스에 반영 대기 중인 Task는 로컬 변경이 아직 Google에 가지 않았을 수 있으므로 제외합니다.
      */
-    @Transactional
-    public void syncEventsFromGoogle(User user) {
-        // 1. "Google" Context 확인 및 생성
-        Context googleContext = contextRepository.findByNamespace(Context.NAMESPACE_GOOGLE)
-                .orElseGet(() -> {
-                    Context ctx = Context.builder()
-                            .namespace(Context.NAMESPACE_GOOGLE)
-                            .description("Synced from Google Calendar")
-                            .color("#4285F4") // Google Blue
-                            .build();
-                    return contextRepository.save(ctx);
-                });
+    private List<Task> findMissingInWindow(User user, String taskCalendarId, EventPage changes) {
+        SyncWindow window = changes.window();
+        Set<String> listed = changes.items().stream()
+                .filter(item -> !STATUS_CANCELLED.equals(item.getStatus()))
+                .map(Event::getId)
+                .collect(Collectors.toSet());
+        List<Task> missing = taskRepository.findGoogleLinkedInWindow(user.getId(), taskCalendarId,
+                        window.timeMin(), window.timeMax(), window.fetchedAt()).stream()
+                .filter(task -> !listed.contains(task.getGoogleEventId()))
+                .toList();
+        if (missing.isEmpty()) {
+            return missing;
+        }
+        Set<Long> pending = new HashSet<>(outboxRepository.findTaskIdsByStatusAndTaskIdIn(
+                CalendarOutbox.Status.PENDING, missing.stream().map(Task::getId).toList()));
+        return missing.stream().filter(task -> !pending.contains(task.getId())).toList();
+    }
 
-        // 2. 동기화 범위 설정 (예: 1주일 전 ~ 3개월 후)
-        LocalDateTime start = LocalDateTime.now().minusWeeks(1);
-        LocalDateTime end = LocalDateTime.now().plusMonths(3);
-        List<GoogleCalendarEventResponse> events = getEvents(user, start, end);
-
-        // 3. Task로 저장 또는 업데이트
-        for (GoogleCalendarEventResponse event : events) {
-            taskRepository.findByGoogleEventId(event.getId())
-                    .ifPresentOrElse(task -> {
-                        // 기존 Task 업데이트
-                        LocalDateTime deadline = parseDateTime(event.getEnd());
-                        LocalDateTime startedAt = parseDateTime(event.getStart());
-
-                        task.update(
-                                event.getSummary(),
-                                event.getDescription(),
-                                Task.TaskType.SCHEDULE,
-                                task.getContextId(), // 기존 컨텍스트 유지
-                                startedAt,
-                                deadline,
-                                true // syncToGoogle 유지
-                        );
-
-                    }, () -> {
-                        // 새 Task 생성
-                        LocalDateTime deadline = parseDateTime(event.getEnd());
-                        LocalDateTime startedAt = parseDateTime(event.getStart());
-
-                        Task newTask = Task.builder()
-                                .syntax(event.getSummary())
-                                .details(event.getDescription())
-                                .status(Task.TaskStatus.PENDING) // 혹은 SCHEDULE용 상태가 있다면?
-                                .type(Task.TaskType.SCHEDULE)
-                                .contextId(googleContext.getId())
-                                .deadline(deadline)
-                                .startedAt(startedAt)
-                                .googleEventId(event.getId())
-                                .syncToGoogle(true)
-                                .userId(user.getId())
-                                .build();
-                        taskRepository.save(newTask);
-                    });
+    /**
+     * 로컬 Task id 확장 속성이 있는 이벤트 처리, 가져오지 말아야 할 이벤트 id 반환
+     * - 연결 전인 원래 Task가 있으면 이벤트 id만 연결 (내용은 아웃박스가 보낸 것이고, 이후 편집은 UPDATE로 반영됨)
+     * - 원래 Task가 삭제되었으면 건너뜀 (아웃박스가 만든 이벤트를 정리)
+     * 다른 Task에 이미 연결된 경우(이벤트 복제 등)는 일반 이벤트로 가져옵니다.
+     */
+    private Set<String> linkOwnedEvents(User user, List<Event> items, Map<String, Task> existing, List<Task> linked) {
+        Map<String, Long> owners = new HashMap<>();
+        Map<String, String> etags = new HashMap<>();
+        for (Event item : items) {
+            Long taskId = localTaskId(item);
+            if (taskId != null && !existing.containsKey(item.getId()) && !STATUS_CANCELLED.equals(item.getStatus())) {
+                owners.put(item.getId(), taskId);
+                etags.put(item.getId(), item.getEtag());
+            }
+        }
+        if (owners.isEmpty()) {
+            return Set.of();
+        }
+
+        Map<Long, Task> tasks = taskRepository.findAllById(owners.values()).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        Set<String> owned = new HashSet<>();
+        owners.forEach((eventId, taskId) -> {
+            Task task = tasks.get(taskId);
+            if (task == null) {
+                owned.add(eventId);
+            } else if (task.getGoogleEventId() == null && Objects.equals(task.getUserId(), user.getId())) {
+                task.setGoogleEventId(eventId);
+                task.setGoogleEtag(etags.get(eventId));
+                linked.add(task);
+                owned.add(eventId);
+            }
+        });
+        return owned;
+    }
+
+    private Long localTaskId(Event event) {
+        if (event.getExtendedProperties() == null || event.getExtendedProperties().getPrivate() == null) {
+            return null;
         }
+        String value = event.getExtendedProperties().getPrivate().get(TASK_ID_PROPERTY);
+        try {
+            return value != null ? Long.valueOf(value) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 캘린더용 Context 조회 또는 생성 (primary는 "Google", 그 외는 "Google/캘린더 이름")
+     */
+    private Context resolveContext(CalendarListEntry calendar) {
+        boolean primary = Boolean.TRUE.equals(calendar.getPrimary());
+        String namespace = primary
+                ? Context.NAMESPACE_GOOGLE
+                : Context.NAMESPACE_GOOGLE + "/" + Objects.requireNonNullElse(calendar.getSummary(), calendar.getId());
+        String color = calendar.getBackgroundColor() != null && calendar.getBackgroundColor().length() == 7
+                ? calendar.getBackgroundColor()
+                : "#4285F4"; // Google Blue
+
+        return contextRepository.findByNamespace(namespace)
+                .orElseGet(() -> contextRepository.save(Context.builder()
+                        .namespace(namespace)
+                        .description(primary ? "Synced from Google Calendar"
+                                : "Synced from Google Calendar: " + calendar.getSummary())
+                        .color(color)
+                        .build()));
+    }
+
+    // primary 캘린더는 calendarList에서 이메일 id로 오므로 "primary"로 통일
+    private String calendarKey(CalendarListEntry calendar) {
+        return Boolean.TRUE.equals(calendar.getPrimary()) ? PRIMARY_CALENDAR_ID : calendar.getId();
+    }
+
+    private String calendarOf(String calendarId) {
+        return calendarId != null ? calendarId : PRIMARY_CALENDAR_ID;
+    }
+
+    private GoogleCalendarEventResponse toResponse(String calendarId, Event event) {
+        boolean isAllDay = event.getStart().getDate() != null;
+
+        String startStr = isAllDay
+                ? event.getStart().getDate().toString()
+                : event.getStart().getDateTime().toString();
+        String endStr = isAllDay
+                ? event.getEnd().getDate().toString()
+                : event.getEnd().getDateTime().toString();
+
+        return GoogleCalendarEventResponse.builder()
+                .id(event.getId())
+                .calendarId(calendarId)
+                .summary(event.getSummary())
+                .description(event.getDescription())
+                .start(startStr)
+                .end(endStr)
+                .htmlLink(event.getHtmlLink())
+                .isAllDay(isAllDay)
+                .build();
+    }
+
+    private com.google.api.client.util.DateTime toDateTime(LocalDateTime dateTime) {
+        return new com.google.api.client.util.DateTime(Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant()));
+    }
+
+    /**
+     * 조회 결과, 전체 동기화면 window에 조회 범위가 있음
+     */
+    private record EventPage(List<Event> items, String nextSyncToken, SyncWindow window) {
+    }
+
+    /**
+     * 전체 동기화 조회 범위와 조회 시작 시각
+     */
+    private record SyncWindow(LocalDateTime timeMin, LocalDateTime timeMax, LocalDateTime fetchedAt) {
     }
 
     private LocalDateTime parseDateTime(String dateTimeStr) {
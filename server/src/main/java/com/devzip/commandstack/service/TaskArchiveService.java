@@ -0,0 +1,87 @@
+package com.devzip.commandstack.service;
+
+import com.devzip.commandstack.domain.Task.TaskStatus;
+import com.devzip.commandstack.repository.ArchivedTaskRepository;
+import com.devzip.commandstack.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 완료 Task 보관(콜드 스토리지) 계층
+ * 완료 후 일정 기간이 지난 EXIT_SUCCESS Task를 archived_tasks로 옮겨 핫 테이블을 작게 유지합니다.
+ * 옮기는 작업은 청크 단위 INSERT ... SELECT / DELETE 이며 엔티티를 로드하지 않습니다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class TaskArchiveService {
+
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.archive.after-days:30}")
+    private int archiveAfterDays;
+
+    @Value("${app.archive.batch-size:1000}")
+    private int batchSize;
+
+    /**
+     * 보관 기간이 지난 완료 Task 이동 (청크마다 별도 트랜잭션)
+     */
+    @Scheduled(cron = "${app.archive.cron:0 30 3 * * *}")
+    public int archiveCompletedTasks() {
+        LocalDateTime threshold = LocalDateTime.now().minusDays(archiveAfterDays);
+        int total = 0;
+
+        while (true) {
+            Integer moved = transactionTemplate.execute(status -> {
+                List<Long> ids = taskRepository.findIdsByStatusAndCompletedAtBefore(
+                        TaskStatus.EXIT_SUCCESS, threshold, Limit.of(batchSize));
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+                archivedTaskRepository.copyFromTasks(ids);
+                archivedTaskRepository.deleteFromTasks(ids);
+                return ids.size();
+            });
+
+            if (moved == null || moved == 0) {
+                break;
+            }
+            total += moved;
+        }
+
+        if (total > 0) {
+            log.info("Archived {} completed tasks older than {} days", total, archiveAfterDays);
+        }
+        return total;
+    }
+
+    /**
+     * 보관된 Task를 핫 테이블로 복원 (호출자 트랜잭션에 참여)
+     * 보관되지 않은 id는 무시됩니다.
+     */
+    @Transactional
+    public int restore(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int restored = archivedTaskRepository.copyToTasks(ids);
+        if (restored > 0) {
+            archivedTaskRepository.deleteByIds(ids);
+            log.info("Restored {} tasks from archive", restored);
+        }
+        return restored;
+    }
+}
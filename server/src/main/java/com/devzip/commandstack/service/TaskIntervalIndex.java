@@ -0,0 +1,259 @@
+package com.devzip.commandstack.service;
+
+import com.devzip.commandstack.dto.response.TaskResponse;
+import com.devzip.commandstack.repository.TaskIndexRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Task 기간 [startedAt, deadline] 구간 색인 (타임라인/캘린더 범위 조회용)
+ * 시작 시각 순 트립(treap)에 서브트리 최대 종료 시각을 덧붙인 구간 트리로, 겹침 조회가 O(log n + k) 입니다.
+ * startedAt / deadline 중 하나만 있으면 그 시점 하나로 된 구간으로 취급합니다.
+ */
+@Component
+@Slf4j
+public class TaskIntervalIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Node> nodes = new HashMap<>();
+    private Node root;
+
+    private static final class Node {
+        final long start;
+        final long end;
+        final long taskId;
+        final int priority;
+        long maxEnd;
+        Node left;
+        Node right;
+
+        Node(long start, long end, long taskId) {
+            this.start = start;
+            this.end = end;
+            this.taskId = taskId;
+            this.priority = ThreadLocalRandom.current().nextInt();
+            this.maxEnd = end;
+        }
+    }
+
+    /**
+     * 기동 시 재구성 시작 (TaskReadModelLoader의 스트리밍 적재)
+     * endRebuild까지 쓰기 락을 쥐므로, 그 사이 커밋된 쓰기는 적재가 끝난 뒤 반영됩니다.
+     */
+    void beginRebuild() {
+        lock.writeLock().lock();
+        root = null;
+        nodes.clear();
+    }
+
+    // beginRebuild ~ endRebuild 사이에서만 호출
+    void add(TaskIndexRow row) {
+        insert(row.id(), row.startedAt(), row.deadline());
+    }
+
+    void endRebuild() {
+        try {
+            log.info("Built interval index: {} tasks", nodes.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Task 색인/재색인 (트랜잭션 안이면 커밋 후 적용)
+     */
+    public void index(TaskResponse task) {
+        TransactionHooks.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                delete(task.getId());
+                insert(task.getId(), task.getStartedAt(), task.getDeadline());
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Task 색인 제거 (트랜잭션 안이면 커밋 후 적용)
+     */
+    public void remove(Long taskId) {
+        TransactionHooks.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                delete(taskId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * 여러 Task 색인 제거 (트랜잭션 안이면 커밋 후 적용)
+     */
+    public void removeAll(Collection<Long> taskIds) {
+        TransactionHooks.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                taskIds.forEach(this::delete);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * [start, end]와 겹치는 Task id (시작 시각 오름차순)
+     */
+    public List<Long> findOverlapping(LocalDateTime start, LocalDateTime end) {
+        long queryStart = toMillis(start);
+        long queryEnd = toMillis(end);
+        List<Long> result = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            collect(root, queryStart, queryEnd, result);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    private void insert(Long taskId, LocalDateTime startedAt, LocalDateTime deadline) {
+        LocalDateTime from = startedAt != null ? startedAt : deadline;
+        LocalDateTime to = deadline != null ? deadline : startedAt;
+        if (from == null) {
+            return;
+        }
+
+        long start = toMillis(from);
+        long end = toMillis(to);
+        Node node = new Node(Math.min(start, end), Math.max(start, end), taskId);
+        root = insert(root, node);
+        nodes.put(node.taskId, node);
+    }
+
+    private void delete(Long taskId) {
+        Node node = nodes.remove(taskId);
+        if (node != null) {
+            root = delete(root, node);
+        }
+    }
+
+    private Node insert(Node tree, Node node) {
+        if (tree == null) {
+            return node;
+        }
+        if (node.priority > tree.priority) {
+            Node[] parts = split(tree, node);
+            node.left = parts[0];
+            node.right = parts[1];
+            update(node);
+            return node;
+        }
+        if (compare(node, tree) < 0) {
+            tree.left = insert(tree.left, node);
+        } else {
+            tree.right = insert(tree.right, node);
+        }
+        update(tree);
+        return tree;
+    }
+
+    private Node delete(Node tree, Node node) {
+        if (tree == null) {
+            return null;
+        }
+        int cmp = compare(node, tree);
+        if (cmp == 0) {
+            return merge(tree.left, tree.right);
+        }
+        if (cmp < 0) {
+            tree.left = delete(tree.left, node);
+        } else {
+            tree.right = delete(tree.right, node);
+        }
+        update(tree);
+        return tree;
+    }
+
+    // key보다 작은 노드와 크거나 같은 노드로 분리
+    private Node[] split(Node tree, Node key) {
+        if (tree == null) {
+            return new Node[] { null, null };
+        }
+        if (compare(tree, key) < 0) {
+            Node[] parts = split(tree.right, key);
+            tree.right = parts[0];
+            update(tree);
+            return new Node[] { tree, parts[1] };
+        }
+        Node[] parts = split(tree.left, key);
+        tree.left = parts[1];
+        update(tree);
+        return new Node[] { parts[0], tree };
+    }
+
+    private Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    private void collect(Node tree, long queryStart, long queryEnd, List<Long> result) {
+        // 서브트리의 어떤 구간도 queryStart 이후에 끝나지 않으면 탐색 생략
+        if (tree == null || tree.maxEnd < queryStart) {
+            return;
+        }
+        collect(tree.left, queryStart, queryEnd, result);
+        if (tree.start <= queryEnd && tree.end >= queryStart) {
+            result.add(tree.taskId);
+        }
+        // 오른쪽 서브트리는 모두 이 노드 이후에 시작
+        if (tree.start <= queryEnd) {
+            collect(tree.right, queryStart, queryEnd, result);
+        }
+    }
+
+    private void update(Node node) {
+        long maxEnd = node.end;
+        if (node.left != null) {
+            maxEnd = Math.max(maxEnd, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            maxEnd = Math.max(maxEnd, node.right.maxEnd);
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    private int compare(Node a, Node b) {
+        int cmp = Long.compare(a.start, b.start);
+        return cmp != 0 ? cmp : Long.compare(a.taskId, b.taskId);
+    }
+
+    private long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
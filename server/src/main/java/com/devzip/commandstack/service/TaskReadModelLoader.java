@@ -0,0 +1,60 @@
+package com.devzip.commandstack.service;
+
+import com.devzip.commandstack.repository.ArchivedTaskRepository;
+import com.devzip.commandstack.repository.TaskIndexRow;
+import com.devzip.commandstack.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.Stream;
+
+/**
+ * 인메모리 읽기 모델 기동 적재
+ * 활성/보관 테이블을 좁은 프로젝션(TaskIndexRow)으로 한 번씩만 스트리밍하면서 검색 색인, 구간 색인,
+ * 마감 스케줄러에 나눠 넣습니다. 모델마다 전체 엔티티를 따로 읽지 않아 기동 시 힙 사용이 행 하나 수준으로 유지됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TaskReadModelLoader {
+
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final TaskSearchIndex taskSearchIndex;
+    private final TaskIntervalIndex taskIntervalIndex;
+    private final DeadlineScheduler deadlineScheduler;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        long startedAt = System.currentTimeMillis();
+        taskSearchIndex.beginRebuild();
+        taskIntervalIndex.beginRebuild();
+        try {
+            // 마감 알림은 활성 테이블만 대상 (보관 테이블은 완료 Task)
+            try (Stream<TaskIndexRow> rows = taskRepository.streamIndexRows()) {
+                rows.forEach(row -> {
+                    taskSearchIndex.add(row);
+                    taskIntervalIndex.add(row);
+                    deadlineScheduler.add(row);
+                });
+            }
+            try (Stream<TaskIndexRow> rows = archivedTaskRepository.streamIndexRows()) {
+                rows.forEach(row -> {
+                    taskSearchIndex.add(row);
+                    taskIntervalIndex.add(row);
+                });
+            }
+        } finally {
+            taskIntervalIndex.endRebuild();
+            taskSearchIndex.endRebuild();
+            // 적재가 실패해도 이후 쓰기로 들어오는 마감은 알림
+            deadlineScheduler.start();
+        }
+        log.info("Loaded read models in {} ms", System.currentTimeMillis() - startedAt);
+    }
+}
@@ -0,0 +1,57 @@
+package com.devzip.commandstack.service;
+
+import com.devzip.commandstack.dto.response.TaskResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * Task 쓰기를 인메모리 읽기 모델(활성 목록 캐시, 검색 색인, 구간 색인, 마감 스케줄러)에 전파
+ * 각 모델은 커밋 이후에만 반영합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskReadModels {
+
+    private final ActiveTaskCache activeTaskCache;
+    private final TaskSearchIndex taskSearchIndex;
+    private final TaskIntervalIndex taskIntervalIndex;
+    private final DeadlineScheduler deadlineScheduler;
+
+    public void saved(TaskResponse task) {
+        activeTaskCache.put(task);
+        taskSearchIndex.index(task.getId(), task.getSyntax(), task.getDetails());
+        taskIntervalIndex.index(task);
+        deadlineScheduler.upsert(task);
+    }
+
+    public void deleted(Long taskId) {
+        activeTaskCache.remove(taskId);
+        taskSearchIndex.remove(taskId);
+        taskIntervalIndex.remove(taskId);
+        deadlineScheduler.remove(taskId);
+    }
+
+    /**
+     * 여러 Task 삭제 (Context 삭제 등)
+     * 모델마다 커밋 후 작업 하나로 묶어, 락을 한 번만 잡고 반영합니다.
+     */
+    public void deletedAll(Collection<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return;
+        }
+        activeTaskCache.removeAll(taskIds);
+        taskSearchIndex.removeAll(taskIds);
+        taskIntervalIndex.removeAll(taskIds);
+        deadlineScheduler.removeAll(taskIds);
+    }
+
+    /**
+     * 집합 단위 UPDATE로 contextId만 바뀐 경우
+     * contextId를 들고 있는 활성 목록 캐시만 다시 적재합니다. (검색/구간/마감 모델은 영향 없음)
+     */
+    public void contextReassigned() {
+        activeTaskCache.invalidate();
+    }
+}
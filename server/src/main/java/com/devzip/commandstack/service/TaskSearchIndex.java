@@ -0,0 +1,202 @@
+package com.devzip.commandstack.service;
+
+import com.devzip.commandstack.repository.TaskIndexRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Task syntax / details 인메모리 역색인
+ * 검색 비용은 질의 토큰의 포스팅 크기에만 비례하므로, 전체(보관 포함) Task 수가 늘어도 일정합니다.
+ * 점수는 BM25이며 syntax(제목) 토큰에 가중치를 둡니다. 마지막 질의 토큰은 접두어로 매칭합니다.
+ */
+@Component
+@Slf4j
+public class TaskSearchIndex {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int SYNTAX_WEIGHT = 3;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // token -> (taskId -> 가중 빈도)
+    private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    // taskId -> (token -> 가중 빈도), 갱신/삭제 시 포스팅 제거용
+    private final Map<Long, Map<String, Integer>> documents = new HashMap<>();
+    private final Map<Long, Integer> documentLengths = new HashMap<>();
+    private long totalLength = 0;
+
+    public record Hit(Long taskId, double score) {
+    }
+
+    /**
+     * 기동 시 재구성 시작 (TaskReadModelLoader의 스트리밍 적재)
+     * endRebuild까지 쓰기 락을 쥐므로, 그 사이 커밋된 쓰기는 적재가 끝난 뒤 반영됩니다.
+     */
+    void beginRebuild() {
+        lock.writeLock().lock();
+        postings.clear();
+        documents.clear();
+        documentLengths.clear();
+        totalLength = 0;
+    }
+
+    // beginRebuild ~ endRebuild 사이에서만 호출 (보관 계층 Task도 검색 대상)
+    void add(TaskIndexRow row) {
+        addDocument(row.id(), row.syntax(), row.details());
+    }
+
+    void endRebuild() {
+        try {
+            log.info("Built search index: {} tasks, {} terms", documents.size(), postings.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Task 색인/재색인 (트랜잭션 안이면 커밋 후 적용)
+     */
+    public void index(Long taskId, String syntax, String details) {
+        TransactionHooks.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                removeDocument(taskId);
+                addDocument(taskId, syntax, details);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Task 색인 제거 (트랜잭션 안이면 커밋 후 적용)
+     */
+    public void remove(Long taskId) {
+        TransactionHooks.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                removeDocument(taskId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * 여러 Task 색인 제거 (트랜잭션 안이면 커밋 후 적용)
+     */
+    public void removeAll(Collection<Long> taskIds) {
+        TransactionHooks.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                taskIds.forEach(this::removeDocument);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * 점수 내림차순 전체 매칭 목록
+     */
+    public List<Hit> search(String query) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            if (documentCount == 0) {
+                return List.of();
+            }
+            double averageLength = (double) totalLength / documentCount;
+            Map<Long, Double> scores = new HashMap<>();
+
+            for (int i = 0; i < terms.size(); i++) {
+                String term = terms.get(i);
+                boolean prefix = i == terms.size() - 1;
+                Map<String, Map<Long, Integer>> matched;
+                if (prefix) {
+                    matched = postings.subMap(term, true, term + Character.MAX_VALUE, false);
+                } else {
+                    Map<Long, Integer> posting = postings.get(term);
+                    matched = posting != null ? Map.of(term, posting) : Map.of();
+                }
+
+                for (Map<Long, Integer> posting : matched.values()) {
+                    double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                    posting.forEach((taskId, frequency) -> {
+                        double norm = K1 * (1 - B + B * documentLengths.get(taskId) / averageLength);
+                        double score = idf * frequency * (K1 + 1) / (frequency + norm);
+                        scores.merge(taskId, score, Double::sum);
+                    });
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(scores.size());
+            scores.forEach((taskId, score) -> hits.add(new Hit(taskId, score)));
+            hits.sort(Comparator.comparingDouble(Hit::score).reversed().thenComparing(Hit::taskId));
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addDocument(Long taskId, String syntax, String details) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        tokenize(syntax).forEach(token -> frequencies.merge(token, SYNTAX_WEIGHT, Integer::sum));
+        tokenize(details).forEach(token -> frequencies.merge(token, 1, Integer::sum));
+
+        int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+        frequencies.forEach((token, frequency) ->
+                postings.computeIfAbsent(token, key -> new HashMap<>()).put(taskId, frequency));
+        documents.put(taskId, frequencies);
+        documentLengths.put(taskId, length);
+        totalLength += length;
+    }
+
+    private void removeDocument(Long taskId) {
+        Map<String, Integer> frequencies = documents.remove(taskId);
+        if (frequencies == null) {
+            return;
+        }
+        frequencies.keySet().forEach(token -> {
+            Map<Long, Integer> posting = postings.get(token);
+            posting.remove(taskId);
+            if (posting.isEmpty()) {
+                postings.remove(token);
+            }
+        });
+        totalLength -= documentLengths.remove(taskId);
+    }
+
+    private List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
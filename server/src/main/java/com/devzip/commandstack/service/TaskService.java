@@ -1,92 +1,308 @@
 package com.devzip.commandstack.service;
 
+import com.devzip.commandstack.domain.ChangeWatermark;
 import com.devzip.commandstack.domain.Task;
 import com.devzip.commandstack.domain.Task.TaskStatus;
+import com.devzip.commandstack.domain.TaskTombstone;
+import com.devzip.commandstack.domain.User;
+import com.devzip.commandstack.dto.request.TaskBatchRequest;
 import com.devzip.commandstack.dto.request.TaskCreateRequest;
 import com.devzip.commandstack.dto.request.TaskUpdateRequest;
 import com.devzip.commandstack.dto.request.StatusUpdateRequest;
+import com.devzip.commandstack.dto.response.ChangeEventResponse;
+import com.devzip.commandstack.dto.response.TaskBatchResponse;
+import com.devzip.commandstack.dto.response.TaskChangesResponse;
+import com.devzip.commandstack.dto.response.TaskPageResponse;
 import com.devzip.commandstack.dto.response.TaskResponse;
+import com.devzip.commandstack.dto.response.TaskSearchResponse;
+import com.devzip.commandstack.repository.ArchivedTaskRepository;
 import com.devzip.commandstack.repository.TaskRepository;
+import com.devzip.commandstack.repository.TaskTombstoneRepository;
+import com.devzip.commandstack.service.CalendarOutboxService.EventRef;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
+@Slf4j
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TaskService {
 
+    public static final int MAX_PAGE_SIZE = 500;
+    // 커서(ChangeWatermark)가 늦은 커밋을 막으므로, 겹침 구간은 시계 해상도/보정 여유만 둠
+    private static final long CHANGES_OVERLAP_MILLIS = 2000;
+
     private final TaskRepository taskRepository;
+    private final TaskTombstoneRepository taskTombstoneRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final TaskArchiveService taskArchiveService;
     private final AuthService authService;
-    private final GoogleCalendarService googleCalendarService;
+    private final CalendarOutboxService calendarOutboxService;
+    private final ActiveTaskCache activeTaskCache;
+    private final TaskSearchIndex taskSearchIndex;
+    private final TaskIntervalIndex taskIntervalIndex;
+    private final TaskReadModels taskReadModels;
+    private final ContextTaskCounters contextTaskCounters;
+    private final DataVersion dataVersion;
+    private final ChangeEventPublisher changeEventPublisher;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.tasks.tombstone-retention-days:30}")
+    private int tombstoneRetentionDays;
 
     @Transactional
     public TaskResponse createTask(TaskCreateRequest request) {
-        Task task = Task.builder()
-                .syntax(request.getSyntax())
-                .details(request.getDetails() != null ? request.getDetails() : "No additional details provided.")
-                .status(TaskStatus.PENDING)
-                .type(request.getType())
-                .contextId(request.getContextId())
-                .startedAt(request.getStartedAt())
-                .deadline(request.getDeadline())
-                .syncToGoogle(request.isSyncToGoogle())
-                .build();
+        Task task = buildTask(request);
 
-        // Google Calendar 연동
-        if (request.isSyncToGoogle()) {
-            authService.getCurrentUser().ifPresent(user -> {
-                task.setUserId(user.getId());
-                String eventId = googleCalendarService.createEvent(user, task);
-                if (eventId != null) {
-                    task.setGoogleEventId(eventId);
-                }
-            });
-        }
+        // Google Calendar 연동 (커밋 후 아웃박스 워커가 이벤트 생성)
+        Optional<User> user = request.isSyncToGoogle() ? authService.getCurrentUser() : Optional.empty();
+        user.ifPresent(u -> task.setUserId(u.getId()));
 
         Task savedTask = taskRepository.save(task);
-        return TaskResponse.from(savedTask);
+        user.ifPresent(u -> calendarOutboxService.enqueueCreate(u.getId(), savedTask.getId()));
+        TaskResponse response = TaskResponse.from(savedTask);
+        taskReadModels.saved(response);
+        contextTaskCounters.changed(null, null, response.getContextId(), response.getStatus());
+        dataVersion.bump();
+        changeEventPublisher.publishTask(ChangeEventResponse.ACTION_CREATED, response.getId(), response);
+        return response;
     }
 
     public List<TaskResponse> getAllTasks() {
-        return taskRepository.findAll().stream()
-                .map(TaskResponse::from)
-                .collect(Collectors.toList());
+        return concat(taskRepository.findAllResponses(), archivedTaskRepository.findAllResponses());
     }
 
+    // 캐시 적중 시 트랜잭션/커넥션 없이 메모리에서 응답
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<TaskResponse> getActiveTasks() {
-        return taskRepository.findByStatusNot(TaskStatus.EXIT_SUCCESS).stream()
-                .map(TaskResponse::from)
-                .collect(Collectors.toList());
+        return activeTaskCache.getActiveTasks();
     }
 
+    // 아직 핫 테이블에 있는 완료 Task + 보관 계층
     public List<TaskResponse> getArchivedTasks() {
-        return taskRepository.findByStatus(TaskStatus.EXIT_SUCCESS).stream()
-                .map(TaskResponse::from)
-                .collect(Collectors.toList());
+        return concat(taskRepository.findResponsesByStatus(TaskStatus.EXIT_SUCCESS),
+                archivedTaskRepository.findAllResponses());
     }
 
     public List<TaskResponse> getTasksByContext(Long contextId) {
-        return taskRepository.findByContextId(contextId).stream()
-                .map(TaskResponse::from)
-                .collect(Collectors.toList());
+        return concat(taskRepository.findResponsesByContextId(contextId),
+                archivedTaskRepository.findResponsesByContextId(contextId));
+    }
+
+    /**
+     * id 기준 Keyset 페이지 조회
+     * OFFSET 없이 커서(마지막 id) 이후의 limit 건만 읽으므로 테이블 크기와 무관하게 일정한 비용이 듭니다.
+     */
+    public TaskPageResponse getTaskPage(String filter, Long contextId, Long after, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        long cursor = after != null ? after : 0L;
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Limit fetch = Limit.of(size + 1);
+
+        // 보관 계층이 포함되는 조회는 두 테이블의 Keyset 결과를 id 순으로 병합
+        List<TaskResponse> tasks;
+        if (contextId != null) {
+            tasks = mergeById(taskRepository.findResponsesByContextIdAfter(contextId, cursor, fetch),
+                    archivedTaskRepository.findResponsesByContextIdAfter(contextId, cursor, fetch));
+        } else if ("active".equals(filter)) {
+            tasks = taskRepository.findResponsesByStatusInAfter(Task.ACTIVE_STATUSES, cursor, fetch);
+        } else if ("archived".equals(filter)) {
+            tasks = mergeById(taskRepository.findResponsesByStatusAfter(TaskStatus.EXIT_SUCCESS, cursor, fetch),
+                    archivedTaskRepository.findResponsesAfter(cursor, fetch));
+        } else {
+            tasks = mergeById(taskRepository.findResponsesAfter(cursor, fetch),
+                    archivedTaskRepository.findResponsesAfter(cursor, fetch));
+        }
+
+        boolean hasNext = tasks.size() > size;
+        List<TaskResponse> items = hasNext ? tasks.subList(0, size) : tasks;
+
+        return TaskPageResponse.builder()
+                .items(items)
+                .nextCursor(hasNext ? items.get(items.size() - 1).getId() : null)
+                .build();
+    }
+
+    /**
+     * [start, end] 기간과 겹치는 Task 조회 (시작 시각 오름차순)
+     * 구간 색인에서 겹치는 id만 찾은 뒤 해당 행만 DB에서 읽습니다.
+     */
+    public List<TaskResponse> getTasksInRange(LocalDateTime start, LocalDateTime end) {
+        if (end.isBefore(start)) {
+            throw new IllegalArgumentException("Range end must not be before start");
+        }
+
+        List<Long> ids = taskIntervalIndex.findOverlapping(start, end);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, TaskResponse> found = findResponsesByIds(ids);
+        return ids.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * syntax / details 전문 검색 (점수 내림차순, offset 페이지)
+     * 색인에서 순위를 매긴 뒤 해당 페이지의 id만 DB에서 읽습니다.
+     */
+    public TaskSearchResponse searchTasks(String query, int offset, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        int from = Math.max(0, offset);
+
+        List<TaskSearchIndex.Hit> hits = taskSearchIndex.search(query);
+        List<Long> pageIds = hits.stream()
+                .skip(from)
+                .limit(size)
+                .map(TaskSearchIndex.Hit::taskId)
+                .toList();
+
+        Map<Long, TaskResponse> found = pageIds.isEmpty() ? Map.of() : findResponsesByIds(pageIds);
+        List<TaskResponse> items = pageIds.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        int next = from + size;
+        return TaskSearchResponse.builder()
+                .items(items)
+                .total(hits.size())
+                .nextOffset(next < hits.size() ? next : null)
+                .build();
+    }
+
+    /**
+     * since 커서 이후 생성/수정/삭제된 Task 조회
+     * 커서는 epoch millis이며, 진행 중인 쓰기 트랜잭션의 시작 시각을 넘지 않으므로(ChangeWatermark)
+     * 조회 시점에 아직 커밋되지 않은 변경은 다음 조회에 포함됩니다.
+     * 겹침 구간 때문에 같은 변경이 다시 올 수 있으므로 클라이언트는 멱등하게 적용해야 합니다.
+     * 보관된 Task의 변경(Context 이동 등)도 포함합니다.
+     * 커서가 없거나 툼스톤 보관 기간보다 오래되었으면 전체 목록으로 응답합니다(fullResync).
+     */
+    public TaskChangesResponse getChangesSince(Long since) {
+        // 조회보다 먼저 발급해야 조회 후 커밋되는 쓰기가 커서 이후로 남음
+        long nextCursor = ChangeWatermark.cursor();
+        LocalDateTime retentionHorizon = LocalDateTime.now().minusDays(tombstoneRetentionDays);
+
+        LocalDateTime sinceTime = since != null ? toLocalDateTime(since - CHANGES_OVERLAP_MILLIS) : null;
+        if (sinceTime == null || sinceTime.isBefore(retentionHorizon)) {
+            return TaskChangesResponse.builder()
+                    .updated(getAllTasks())
+                    .deleted(List.of())
+                    .cursor(nextCursor)
+                    .fullResync(true)
+                    .build();
+        }
+
+        List<TaskResponse> updated = new ArrayList<>(taskRepository.findResponsesUpdatedAfter(sinceTime));
+        updated.addAll(archivedTaskRepository.findResponsesUpdatedAfter(sinceTime));
+
+        return TaskChangesResponse.builder()
+                .updated(updated)
+                .deleted(taskTombstoneRepository.findTaskIdsDeletedAfter(sinceTime))
+                .cursor(nextCursor)
+                .fullResync(false)
+                .build();
+    }
+
+    /**
+     * 보관 기간이 지난 툼스톤 정리 (매일 04시)
+     */
+    @Scheduled(cron = "0 0 4 * * *")
+    @Transactional
+    public void purgeTombstones() {
+        int purged = taskTombstoneRepository.deleteOlderThan(LocalDateTime.now().minusDays(tombstoneRetentionDays));
+        if (purged > 0) {
+            log.info("Purged {} task tombstones", purged);
+        }
+    }
+
+    private LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    /**
+     * 전체 Task를 NDJSON(한 줄에 하나의 JSON)으로 스트리밍
+     * 스크롤 커서로 한 건씩 읽고 바로 detach 하므로 힙 사용량이 데이터 크기와 무관합니다.
+     */
+    public void exportTasks(OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(TaskResponse.class);
+
+        try (Stream<Task> tasks = taskRepository.streamAllOrderById()) {
+            tasks.forEach(task -> {
+                try {
+                    out.write(writer.writeValueAsBytes(TaskResponse.from(task)));
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                entityManager.detach(task);
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        // 보관 계층은 프로젝션 스트림으로 이어서 출력
+        try (Stream<TaskResponse> archived = archivedTaskRepository.streamAllResponses()) {
+            archived.forEach(task -> {
+                try {
+                    out.write(writer.writeValueAsBytes(task));
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        out.flush();
     }
 
     public TaskResponse getTaskById(Long id) {
-        Task task = taskRepository.findById(id)
+        return taskRepository.findById(id)
+                .map(TaskResponse::from)
+                .or(() -> archivedTaskRepository.findResponsesByIdIn(List.of(id)).stream().findFirst())
                 .orElseThrow(() -> new IllegalArgumentException("Task not found with id:" + id));
-        return TaskResponse.from(task);
     }
 
     @Transactional
     public TaskResponse updateTask(Long id, TaskUpdateRequest request) {
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Task not found with id:" + id));
+        Task task = findTaskForWrite(id);
 
         boolean wasSync = task.isSyncToGoogle();
+        Long previousContextId = task.getContextId();
 
         task.update(
                 request.getSyntax(),
@@ -97,50 +313,250 @@ public class TaskService {
                 request.getDeadline(),
                 request.isSyncToGoogle());
 
-        // Google Calendar Sync Logic
+        // Google Calendar Sync Logic (아웃박스에 기록, 커밋 후 반영)
         authService.getCurrentUser().ifPresent(user -> {
             boolean isSync = task.isSyncToGoogle();
 
             if (isSync) {
                 if (wasSync && task.getGoogleEventId() != null) {
-                    googleCalendarService.updateEvent(user, task);
+                    calendarOutboxService.enqueueUpdate(user.getId(), task.getId());
                 } else {
-                    String eventId = googleCalendarService.createEvent(user, task);
-                    if (eventId != null) {
-                        task.setGoogleEventId(eventId);
-                    }
+                    // 생성이 아직 연결 전이면 아웃박스가 CREATE 뒤의 UPDATE로 넣음
+                    task.setUserId(user.getId());
+                    calendarOutboxService.enqueueCreate(user.getId(), task.getId());
                 }
             } else if (wasSync) {
-                googleCalendarService.deleteEvent(user, task.getGoogleEventId());
+                if (task.getGoogleEventId() != null) {
+                    calendarOutboxService.enqueueDelete(user.getId(), EventRef.of(task));
+                }
                 task.setGoogleEventId(null);
+                task.setGoogleCalendarId(null);
             }
         });
 
-        return TaskResponse.from(task);
+        TaskResponse response = TaskResponse.from(task);
+        taskReadModels.saved(response);
+        contextTaskCounters.changed(previousContextId, task.getStatus(), task.getContextId(), task.getStatus());
+        dataVersion.bump();
+        changeEventPublisher.publishTask(ChangeEventResponse.ACTION_UPDATED, response.getId(), response);
+        return response;
     }
 
     @Transactional
     public TaskResponse updateStatus(Long id, StatusUpdateRequest request) {
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Task not found with id:" + id));
+        Task task = findTaskForWrite(id);
+        TaskStatus previousStatus = task.getStatus();
 
         task.updateStatus(request.getStatus());
 
-        return TaskResponse.from(task);
+        TaskResponse response = TaskResponse.from(task);
+        taskReadModels.saved(response);
+        contextTaskCounters.changed(task.getContextId(), previousStatus, task.getContextId(), task.getStatus());
+        dataVersion.bump();
+        changeEventPublisher.publishTask(ChangeEventResponse.ACTION_UPDATED, response.getId(), response);
+        return response;
     }
 
     @Transactional
     public void deleteTask(Long id) {
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Task not found with id:" + id));
+        Task task = findTaskForWrite(id);
 
         if (task.getGoogleEventId() != null) {
-            final String eventId = task.getGoogleEventId();
-            authService.getCurrentUser().ifPresent(user -> {
-                googleCalendarService.deleteEvent(user, eventId);
-            });
+            EventRef event = EventRef.of(task);
+            authService.getCurrentUser().ifPresent(user -> calendarOutboxService.enqueueDelete(user.getId(), event));
         }
 
         taskRepository.deleteById(id);
+        taskTombstoneRepository.save(TaskTombstone.builder()
+                .taskId(id)
+                .build());
+        taskReadModels.deleted(id);
+        contextTaskCounters.changed(task.getContextId(), task.getStatus(), null, null);
+        dataVersion.bump();
+        changeEventPublisher.publishTask(ChangeEventResponse.ACTION_DELETED, id, null);
+    }
+
+    /**
+     * 생성/상태 변경/삭제를 한 트랜잭션으로 일괄 처리
+     * 대상 Task는 한 번의 IN 조회로 읽고, INSERT/UPDATE는 JDBC 배치, 삭제는 단일 DELETE 문으로 실행됩니다.
+     * 하나라도 실패하면 전체가 롤백됩니다.
+     */
+    @Transactional
+    public TaskBatchResponse applyBatch(TaskBatchRequest request) {
+        List<TaskBatchRequest.Operation> operations = request.getOperations();
+
+        // 1. 수정/삭제 대상 일괄 조회
+        Set<Long> targetIds = operations.stream()
+                .filter(operation -> operation.getOp() != TaskBatchRequest.OperationType.CREATE)
+                .map(this::requireId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<Long, Task> targets = taskRepository.findAllById(targetIds).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        List<Long> missing = targetIds.stream().filter(id -> !targets.containsKey(id)).toList();
+        if (!missing.isEmpty() && taskArchiveService.restore(missing) > 0) {
+            taskRepository.findAllById(missing).forEach(task -> targets.put(task.getId(), task));
+        }
+        targetIds.stream()
+                .filter(id -> !targets.containsKey(id))
+                .findFirst()
+                .ifPresent(id -> {
+                    throw new IllegalArgumentException("Task not found with id:" + id);
+                });
+
+        boolean needsUser = operations.stream().anyMatch(operation -> operation.getTask() != null
+                && operation.getTask().isSyncToGoogle());
+        Optional<User> user = needsUser || targets.values().stream().anyMatch(t -> t.getGoogleEventId() != null)
+                ? authService.getCurrentUser()
+                : Optional.empty();
+
+        List<Task> toCreate = new ArrayList<>();
+        Map<Long, Task> toUpdate = new LinkedHashMap<>();
+        Map<Long, Task> toDelete = new LinkedHashMap<>();
+        // 카운터 증감 계산용 변경 전 상태
+        Map<Long, TaskStatus> originalStatus = new HashMap<>();
+
+        // 2. 메모리에서 변경 적용
+        for (TaskBatchRequest.Operation operation : operations) {
+            switch (operation.getOp()) {
+                case CREATE -> {
+                    if (operation.getTask() == null) {
+                        throw new IllegalArgumentException("Task payload is required for CREATE");
+                    }
+                    Task task = buildTask(operation.getTask());
+                    if (task.isSyncToGoogle()) {
+                        user.ifPresent(u -> task.setUserId(u.getId()));
+                    }
+                    toCreate.add(task);
+                }
+                case UPDATE_STATUS -> {
+                    if (operation.getStatus() == null) {
+                        throw new IllegalArgumentException("Status is required for UPDATE_STATUS");
+                    }
+                    Task task = targets.get(operation.getId());
+                    if (toDelete.containsKey(task.getId())) {
+                        throw new IllegalArgumentException("Task already deleted in this batch, id:" + task.getId());
+                    }
+                    originalStatus.putIfAbsent(task.getId(), task.getStatus());
+                    task.updateStatus(operation.getStatus());
+                    toUpdate.put(task.getId(), task);
+                }
+                case DELETE -> {
+                    Task task = targets.get(operation.getId());
+                    toUpdate.remove(task.getId());
+                    toDelete.put(task.getId(), task);
+                }
+            }
+        }
+
+        // 3. 일괄 반영 (시퀀스 풀에서 id를 받으므로 INSERT도 배치됨)
+        List<Task> created = taskRepository.saveAll(toCreate);
+        user.ifPresent(u -> calendarOutboxService.enqueueCreates(u.getId(), created.stream()
+                .filter(Task::isSyncToGoogle)
+                .map(Task::getId)
+                .toList()));
+
+        if (!toDelete.isEmpty()) {
+            user.ifPresent(u -> calendarOutboxService.enqueueDeletes(u.getId(), toDelete.values().stream()
+                    .filter(task -> task.getGoogleEventId() != null)
+                    .map(EventRef::of)
+                    .toList()));
+
+            // 상태 변경 후 삭제된 엔티티가 flush 되지 않도록 먼저 분리
+            toDelete.values().forEach(entityManager::detach);
+            taskRepository.deleteAllByIdInBatch(toDelete.keySet());
+            taskTombstoneRepository.saveAll(toDelete.keySet().stream()
+                    .map(id -> TaskTombstone.builder().taskId(id).build())
+                    .toList());
+        }
+
+        List<TaskResponse> createdResponses = created.stream().map(TaskResponse::from).toList();
+        List<TaskResponse> updatedResponses = toUpdate.values().stream().map(TaskResponse::from).toList();
+        List<Long> deletedIds = List.copyOf(toDelete.keySet());
+
+        createdResponses.forEach(taskReadModels::saved);
+        updatedResponses.forEach(taskReadModels::saved);
+        deletedIds.forEach(taskReadModels::deleted);
+        created.forEach(task -> contextTaskCounters.changed(null, null, task.getContextId(), task.getStatus()));
+        toUpdate.values().forEach(task -> contextTaskCounters.changed(task.getContextId(),
+                originalStatus.get(task.getId()), task.getContextId(), task.getStatus()));
+        toDelete.values().forEach(task -> contextTaskCounters.changed(task.getContextId(),
+                originalStatus.getOrDefault(task.getId(), task.getStatus()), null, null));
+        dataVersion.bump();
+        // 항목별 이벤트 대신 재조회 신호 한 건만 발행 (구독자 버퍼 보호)
+        changeEventPublisher.publishTask(ChangeEventResponse.ACTION_RESYNC, null, null);
+
+        return TaskBatchResponse.builder()
+                .created(createdResponses)
+                .updated(updatedResponses)
+                .deleted(deletedIds)
+                .build();
+    }
+
+    /**
+     * 쓰기 대상 Task 조회, 보관 계층에 있으면 핫 테이블로 복원한 뒤 반환
+     */
+    private Task findTaskForWrite(Long id) {
+        return taskRepository.findById(id)
+                .or(() -> taskArchiveService.restore(List.of(id)) > 0 ? taskRepository.findById(id) : Optional.empty())
+                .orElseThrow(() -> new IllegalArgumentException("Task not found with id:" + id));
+    }
+
+    // 핫 테이블에서 찾고, 없는 id만 보관 계층에서 조회
+    private Map<Long, TaskResponse> findResponsesByIds(Collection<Long> ids) {
+        Map<Long, TaskResponse> found = taskRepository.findResponsesByIdIn(ids).stream()
+                .collect(Collectors.toMap(TaskResponse::getId, Function.identity()));
+        List<Long> missing = ids.stream().filter(id -> !found.containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            archivedTaskRepository.findResponsesByIdIn(missing).forEach(task -> found.put(task.getId(), task));
+        }
+        return found;
+    }
+
+    private List<TaskResponse> concat(List<TaskResponse> hot, List<TaskResponse> archived) {
+        if (archived.isEmpty()) {
+            return hot;
+        }
+        List<TaskResponse> result = new ArrayList<>(hot.size() + archived.size());
+        result.addAll(hot);
+        result.addAll(archived);
+        return result;
+    }
+
+    // id 오름차순 두 목록 병합
+    private List<TaskResponse> mergeById(List<TaskResponse> hot, List<TaskResponse> archived) {
+        if (archived.isEmpty()) {
+            return hot;
+        }
+        List<TaskResponse> result = new ArrayList<>(hot.size() + archived.size());
+        int i = 0;
+        int j = 0;
+        while (i < hot.size() || j < archived.size()) {
+            if (j >= archived.size() || (i < hot.size() && hot.get(i).getId() < archived.get(j).getId())) {
+                result.add(hot.get(i++));
+            } else {
+                result.add(archived.get(j++));
+            }
+        }
+        return result;
+    }
+
+    private Long requireId(TaskBatchRequest.Operation operation) {
+        if (operation.getId() == null) {
+            throw new IllegalArgumentException("Task id is required for " + operation.getOp());
+        }
+        return operation.getId();
+    }
+
+    private Task buildTask(TaskCreateRequest request) {
+        return Task.builder()
+                .syntax(request.getSyntax())
+                .details(request.getDetails() != null ? request.getDetails() : "No additional details provided.")
+                .status(TaskStatus.PENDING)
+                .type(request.getType())
+                .contextId(request.getContextId())
+                .startedAt(request.getStartedAt())
+                .deadline(request.getDeadline())
+                .syncToGoogle(request.isSyncToGoogle())
+                .build();
     }
 }
@@ -4,10 +4,10 @@ import com.devzip.commandstack.domain.User;
 import com.devzip.commandstack.repository.UserRepository;
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.LinkedMultiValueMap;
@@ -22,12 +22,14 @@ import java.time.LocalDateTime;
  */
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class TokenRefreshService {
 
     private final UserRepository userRepository;
-    private final RestTemplate restTemplate = new RestTemplate();
-    private static final String TOKEN_ENDPOINT = "https://oauth2.googleapis.com/token";
+    private final RestTemplate restTemplate;
+
+    // 부하 테스트에서는 로컬 가짜 토큰 엔드포인트로 교체
+    @Value("${google.oauth.token-uri:https://oauth2.googleapis.com/token}")
+    private String tokenEndpoint;
 
     @Value("${spring.security.oauth2.client.registration.google.client-id}")
     private String clientId;
@@ -35,6 +37,18 @@ public class TokenRefreshService {
     @Value("${spring.security.oauth2.client.registration.google.client-secret}")
     private String clientSecret;
 
+    public TokenRefreshService(
+            UserRepository userRepository,
+            @Value("${app.google.timeout.connect-ms:5000}") int connectTimeoutMillis,
+            @Value("${app.google.timeout.read-ms:15000}") int readTimeoutMillis) {
+        this.userRepository = userRepository;
+        // 토큰 엔드포인트가 느려도 요청 스레드가 무한정 묶이지 않도록 타임아웃 지정
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(connectTimeoutMillis);
+        requestFactory.setReadTimeout(readTimeoutMillis);
+        this.restTemplate = new RestTemplate(requestFactory);
+    }
+
     /**
      * 토큰이 만료되었거나 곧 만료될 예정이면 갱신
      * 만료 5분 전부터 갱신을 시도합니다.
@@ -81,7 +95,7 @@ public class TokenRefreshService {
             HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(params, headers);
 
             ResponseEntity<String> response = restTemplate.postForEntity(
-                    TOKEN_ENDPOINT, request, String.class);
+                    tokenEndpoint, request, String.class);
 
             if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
                 JsonObject jsonResponse = new Gson().fromJson(response.getBody(), JsonObject.class);
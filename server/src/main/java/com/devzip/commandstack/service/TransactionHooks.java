@@ -0,0 +1,29 @@
+package com.devzip.commandstack.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 이후 실행 유틸리티
+ */
+final class TransactionHooks {
+
+    private TransactionHooks() {
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후에, 아니면 즉시 실행합니다. (롤백 시 실행되지 않음)
+     */
+    static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
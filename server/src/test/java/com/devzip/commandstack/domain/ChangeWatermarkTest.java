@@ -0,0 +1,63 @@
+package com.devzip.commandstack.domain;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ChangeWatermark 커서 발급
+ * 트랜잭션은 TransactionSynchronizationManager로 흉내 내어 afterCompletion을 직접 호출합니다.
+ */
+class ChangeWatermarkTest {
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.unbindResourceIfPossible(ChangeWatermark.class);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void cursorStaysAtOldestInFlightWriteUntilItCompletes() throws InterruptedException {
+        TransactionSynchronizationManager.initSynchronization();
+        long before = System.currentTimeMillis();
+        ChangeWatermark.markChanging();
+        long after = System.currentTimeMillis();
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+
+        Thread.sleep(20);
+        assertThat(ChangeWatermark.cursor()).isBetween(before, after);
+
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        assertThat(ChangeWatermark.cursor()).isGreaterThanOrEqualTo(after + 20);
+        assertThat(TransactionSynchronizationManager.hasResource(ChangeWatermark.class)).isFalse();
+    }
+
+    @Test
+    void marksEachTransactionOnce() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        ChangeWatermark.markChanging();
+        ChangeWatermark.markChanging();
+
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).hasSize(1);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+    }
+
+    @Test
+    void outsideTransactionDoesNotHoldTheCursor() {
+        long before = System.currentTimeMillis();
+
+        ChangeWatermark.markChanging();
+
+        assertThat(ChangeWatermark.cursor()).isGreaterThanOrEqualTo(before);
+        assertThat(TransactionSynchronizationManager.hasResource(ChangeWatermark.class)).isFalse();
+    }
+}
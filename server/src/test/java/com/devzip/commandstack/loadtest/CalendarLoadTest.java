@@ -0,0 +1,280 @@
+package com.devzip.commandstack.loadtest;
+
+import com.devzip.commandstack.domain.CalendarOutbox.Operation;
+import com.devzip.commandstack.domain.Task;
+import com.devzip.commandstack.domain.User;
+import com.devzip.commandstack.repository.UserRepository;
+import com.devzip.commandstack.service.GoogleCalendarService;
+import com.devzip.commandstack.service.GoogleCalendarService.EventWrite;
+import com.devzip.commandstack.service.GoogleCalendarService.EventWriteResult;
+import com.devzip.commandstack.service.TokenRefreshService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Google Calendar 경로 부하 테스트 (loadtest 프로필, ./gradlew loadTest)
+ * 가짜 Google 서버(FakeGoogleServer)를 대상으로 토큰 갱신, 동기화(전체/증분), 이벤트 생성/수정/삭제를
+ * 사용자 수만큼의 스레드에서 단계별로 실행하고, 단계마다 처리량과 p50/p99 지연을 로그로 보고합니다.
+ * 단계별 실패 비율이 app.loadtest.max-failure-ratio를 넘으면 실패합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("loadtest")
+@Tag("load")
+@Slf4j
+class CalendarLoadTest {
+
+    @Autowired
+    private GoogleCalendarService googleCalendarService;
+    @Autowired
+    private TokenRefreshService tokenRefreshService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private FakeCalendarStore fakeCalendarStore;
+
+    @Value("${app.loadtest.users:4}")
+    private int users;
+    @Value("${app.loadtest.iterations:20}")
+    private int iterations;
+    @Value("${app.loadtest.changes-per-sync:50}")
+    private int changesPerSync;
+    @Value("${app.loadtest.max-failure-ratio:0.05}")
+    private double maxFailureRatio;
+
+    @Test
+    void calendarPathsStayWithinFailureBudget() throws Exception {
+        List<User> loadTestUsers = prepareUsers();
+        Map<String, Stats> report = new LinkedHashMap<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+        try {
+            // 1) 토큰 갱신
+            runPhase(executor, report, "token.refresh", loadTestUsers, iterations, (user, iteration, stats) -> {
+                String before = user.getAccessToken();
+                User refreshed = stats.time(() -> tokenRefreshService.refreshAccessToken(user));
+                // 실패 시 기존 사용자를 그대로 돌려받음
+                return Objects.equals(before, refreshed.getAccessToken()) ? null : refreshed;
+            });
+
+            // 2) 첫 동기화는 전체, 이후는 외부 편집을 흉내 낸 뒤 증분 (일부 캘린더라도 실패하면 실패로 집계)
+            runPhase(executor, report, "sync.full", loadTestUsers, 1, (user, iteration, stats) ->
+                    stats.time(() -> googleCalendarService.syncEventsFromGoogle(user)) ? user : null);
+            runPhase(executor, report, "sync.incremental", loadTestUsers, iterations, (user, iteration, stats) -> {
+                fakeCalendarStore.mutate(changesPerSync);
+                return stats.time(() -> googleCalendarService.syncEventsFromGoogle(user)) ? user : null;
+            });
+
+            // 3) 이벤트 생성 -> 수정 -> 삭제 (각각 단건 배치)
+            Map<Long, List<String>> created = new ConcurrentHashMap<>();
+            runPhase(executor, report, "event.create", loadTestUsers, iterations, (user, iteration, stats) -> {
+                EventWriteResult result = write(stats, user, new EventWrite(Operation.CREATE, null,
+                        syntheticTask(user, iteration, "Load test event"), null));
+                if (result.isSuccess()) {
+                    created.computeIfAbsent(user.getId(), id -> new ArrayList<>()).add(result.googleEventId());
+                }
+                return result.isSuccess() ? user : null;
+            });
+            runPhase(executor, report, "event.update", loadTestUsers, iterations, (user, iteration, stats) -> {
+                String eventId = eventAt(created, user, iteration);
+                if (eventId == null) {
+                    return null;
+                }
+                EventWriteResult result = write(stats, user, new EventWrite(Operation.UPDATE, null,
+                        syntheticTask(user, iteration, "Load test event (edited)"), eventId));
+                return result.isSuccess() ? user : null;
+            });
+            runPhase(executor, report, "event.delete", loadTestUsers, iterations, (user, iteration, stats) -> {
+                String eventId = eventAt(created, user, iteration);
+                if (eventId == null) {
+                    return null;
+                }
+                EventWriteResult result = write(stats, user, new EventWrite(Operation.DELETE, null, null, eventId));
+                return result.isSuccess() ? user : null;
+            });
+        } finally {
+            executor.shutdownNow();
+        }
+
+        printReport(report);
+
+        report.forEach((name, stats) -> {
+            int attempts = stats.attempts.get();
+            assertThat(attempts).as("%s operations", name).isPositive();
+            assertThat((double) stats.failures.get() / attempts)
+                    .as("%s failure ratio", name)
+                    .isLessThanOrEqualTo(maxFailureRatio);
+        });
+    }
+
+    /**
+     * 한 단계 실행: 사용자마다 스레드 하나가 iterations번 반복
+     * 작업이 null을 반환하면 실패로 집계하고, 반환된 사용자는 다음 반복에 사용합니다. (토큰 갱신 결과 반영)
+     */
+    private void runPhase(ExecutorService executor, Map<String, Stats> report, String name,
+            List<User> loadTestUsers, int repeat, Scenario scenario) throws Exception {
+        Stats stats = new Stats();
+        long startedAt = System.nanoTime();
+
+        List<Future<User>> futures = new ArrayList<>();
+        for (User user : loadTestUsers) {
+            futures.add(executor.submit(() -> {
+                User current = user;
+                for (int i = 0; i < repeat; i++) {
+                    stats.attempts.incrementAndGet();
+                    User next;
+                    try {
+                        next = scenario.run(current, i, stats);
+                    } catch (Exception e) {
+                        log.warn("Load test {} failed for user: {}", name, current.getEmail(), e);
+                        next = null;
+                    }
+                    if (next == null) {
+                        stats.failures.incrementAndGet();
+                    } else {
+                        current = next;
+                    }
+                }
+                return current;
+            }));
+        }
+
+        List<User> updated = new ArrayList<>();
+        for (Future<User> future : futures) {
+            updated.add(future.get());
+        }
+        stats.elapsedNanos = System.nanoTime() - startedAt;
+        report.put(name, stats);
+
+        // 갱신된 토큰을 가진 사용자로 교체
+        for (int i = 0; i < updated.size(); i++) {
+            loadTestUsers.set(i, updated.get(i));
+        }
+        log.info("Load test phase {} finished: {} ops in {} ms", name, stats.count(),
+                TimeUnit.NANOSECONDS.toMillis(stats.elapsedNanos));
+    }
+
+    private EventWriteResult write(Stats stats, User user, EventWrite write) throws Exception {
+        return stats.time(() -> googleCalendarService.writeEvents(user, List.of(write))).get(0);
+    }
+
+    private static String eventAt(Map<Long, List<String>> created, User user, int iteration) {
+        List<String> ids = created.get(user.getId());
+        return ids != null && iteration < ids.size() ? ids.get(iteration) : null;
+    }
+
+    private static Task syntheticTask(User user, int iteration, String syntax) {
+        return Task.builder()
+                .syntax(syntax + " " + iteration)
+                .details("Generated for load testing")
+                .userId(user.getId())
+                .deadline(LocalDateTime.now().plusDays(1).plusHours(iteration))
+                .build();
+    }
+
+    /**
+     * 부하 테스트 사용자 (토큰 만료가 가까워 갱신 경로도 함께 실행됨)
+     */
+    private List<User> prepareUsers() {
+        List<User> result = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            String googleId = "loadtest-" + i;
+            User user = userRepository.findByGoogleId(googleId)
+                    .orElseGet(() -> User.builder()
+                            .googleId(googleId)
+                            .email(googleId + "@example.com")
+                            .name("Load Test " + googleId)
+                            .build());
+            user.updateTokens("fake-initial", "fake-refresh-" + i, LocalDateTime.now().plusMinutes(1));
+            result.add(userRepository.save(user));
+        }
+        return result;
+    }
+
+    private void printReport(Map<String, Stats> report) {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%n%-18s %8s %8s %10s %10s %10s%n", "scenario", "ops", "failed", "ops/s", "p50(ms)", "p99(ms)"));
+        report.forEach((name, stats) -> {
+            long[] sorted = stats.sortedLatencies();
+            double seconds = stats.elapsedNanos / 1_000_000_000.0;
+            out.append(String.format("%-18s %8d %8d %10.1f %10.1f %10.1f%n",
+                    name, sorted.length, stats.failures.get(),
+                    seconds > 0 ? sorted.length / seconds : 0,
+                    percentile(sorted, 0.50), percentile(sorted, 0.99)));
+        });
+        log.info("Calendar load test report:{}", out);
+    }
+
+    // nearest-rank 백분위 (ms)
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(p * sorted.length);
+        return sorted[Math.max(0, rank - 1)] / 1_000_000.0;
+    }
+
+    @FunctionalInterface
+    private interface Scenario {
+        User run(User user, int iteration, Stats stats) throws Exception;
+    }
+
+    @FunctionalInterface
+    private interface Timed<T> {
+        T call() throws Exception;
+    }
+
+    /**
+     * 단계별 지연 기록
+     */
+    private static class Stats {
+
+        private final List<Long> latencies = new ArrayList<>();
+        private final AtomicInteger attempts = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+        private long elapsedNanos;
+
+        <T> T time(Timed<T> call) throws Exception {
+            long startedAt = System.nanoTime();
+            try {
+                return call.call();
+            } finally {
+                record(System.nanoTime() - startedAt);
+            }
+        }
+
+        synchronized void record(long nanos) {
+            latencies.add(nanos);
+        }
+
+        synchronized int count() {
+            return latencies.size();
+        }
+
+        synchronized long[] sortedLatencies() {
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
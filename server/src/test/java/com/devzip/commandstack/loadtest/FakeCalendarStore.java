@@ -0,0 +1,201 @@
+package com.devzip.commandstack.loadtest;
+
+import com.google.api.client.util.DateTime;
+import com.google.api.services.calendar.model.CalendarListEntry;
+import com.google.api.services.calendar.model.Event;
+import com.google.api.services.calendar.model.EventDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 가짜 Google Calendar 저장소 (부하 테스트용, 메모리)
+ * primary 캘린더와 보조 캘린더에 합성 이벤트를 채워 두고, 변경마다 전역 버전을 올려 syncToken 조회를 흉내 냅니다.
+ * 삭제된 이벤트는 cancelled 상태로 남아 증분 동기화에 전달됩니다.
+ */
+@Component
+@Profile("loadtest")
+@Slf4j
+public class FakeCalendarStore {
+
+    public static final String PRIMARY_ID = "loadtest@example.com";
+
+    private final AtomicLong version = new AtomicLong();
+    private final Map<String, CalendarListEntry> calendars = new LinkedHashMap<>();
+    private final Map<String, Map<String, StoredEvent>> events = new ConcurrentHashMap<>();
+
+    public FakeCalendarStore(
+            @Value("${app.fake-google.calendars:3}") int calendarCount,
+            @Value("${app.fake-google.events-per-calendar:2000}") int eventsPerCalendar) {
+        for (int i = 0; i < calendarCount; i++) {
+            String id = i == 0 ? PRIMARY_ID : "loadtest-" + i + "@group.calendar.google.com";
+            calendars.put(id, new CalendarListEntry()
+                    .setId(id)
+                    .setSummary(i == 0 ? PRIMARY_ID : "Load Test " + i)
+                    .setBackgroundColor("#4285f4")
+                    .setPrimary(i == 0)
+                    .setSelected(true)
+                    .setAccessRole("owner"));
+            events.put(id, new ConcurrentHashMap<>());
+        }
+        populate(eventsPerCalendar);
+        log.info("Fake Google Calendar ready: {} calendars x {} events", calendarCount, eventsPerCalendar);
+    }
+
+    public List<CalendarListEntry> calendars() {
+        return List.copyOf(calendars.values());
+    }
+
+    /**
+     * "primary" 별칭을 실제 캘린더 id로 변환, 없는 캘린더면 null
+     */
+    public String resolve(String calendarId) {
+        String id = "primary".equals(calendarId) ? PRIMARY_ID : calendarId;
+        return calendars.containsKey(id) ? id : null;
+    }
+
+    // store와 같은 락: 반환한 버전 이하의 변경은 모두 저장된 상태
+    public synchronized long currentVersion() {
+        return version.get();
+    }
+
+    /**
+     * 범위 조회 (취소되지 않은 이벤트, 시작 시간순)
+     */
+    public List<Event> list(String calendarId, DateTime timeMin, DateTime timeMax) {
+        return events.get(calendarId).values().stream()
+                .filter(stored -> !stored.cancelled())
+                .filter(stored -> timeMin == null || end(stored.event()) > timeMin.getValue())
+                .filter(stored -> timeMax == null || start(stored.event()) < timeMax.getValue())
+                .sorted(Comparator.comparingLong((StoredEvent stored) -> start(stored.event()))
+                        .thenComparing(stored -> stored.event().getId()))
+                .map(StoredEvent::event)
+                .toList();
+    }
+
+    /**
+     * syncToken(버전) 이후 변경된 이벤트 (취소 포함, 변경 순)
+     */
+    public List<Event> changesSince(String calendarId, long sinceVersion) {
+        return events.get(calendarId).values().stream()
+                .filter(stored -> stored.version() > sinceVersion)
+                .sorted(Comparator.comparingLong(StoredEvent::version))
+                .map(StoredEvent::event)
+                .toList();
+    }
+
+    public Event insert(String calendarId, Event event) {
+        String id = UUID.randomUUID().toString().replace("-", "");
+        Event created = event.clone()
+                .setId(id)
+                .setStatus("confirmed")
+                .setHtmlLink("https://calendar.google.com/event?eid=" + id);
+        return store(calendarId, created, false);
+    }
+
+    /**
+     * 부분 수정 (요청에 있는 필드만 반영), 없거나 삭제된 이벤트면 null
+     */
+    public Event patch(String calendarId, String eventId, Event patch) {
+        StoredEvent stored = events.get(calendarId).get(eventId);
+        if (stored == null || stored.cancelled()) {
+            return null;
+        }
+        Event updated = stored.event().clone();
+        patch.forEach(updated::set);
+        return store(calendarId, updated, false);
+    }
+
+    /**
+     * 삭제 (cancelled로 표시), 없거나 이미 삭제된 이벤트면 false
+     */
+    public boolean delete(String calendarId, String eventId) {
+        StoredEvent stored = events.get(calendarId).get(eventId);
+        if (stored == null || stored.cancelled()) {
+            return false;
+        }
+        store(calendarId, stored.event().clone().setStatus("cancelled"), true);
+        return true;
+    }
+
+    /**
+     * 외부 편집 흉내: 임의의 이벤트 count개의 제목을 바꿈
+     */
+    public void mutate(int count) {
+        List<String> calendarIds = List.copyOf(calendars.keySet());
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < count; i++) {
+            String calendarId = calendarIds.get(random.nextInt(calendarIds.size()));
+            List<StoredEvent> candidates = events.get(calendarId).values().stream()
+                    .filter(stored -> !stored.cancelled())
+                    .limit(1000)
+                    .toList();
+            if (candidates.isEmpty()) {
+                continue;
+            }
+            Event event = candidates.get(random.nextInt(candidates.size())).event().clone();
+            store(calendarId, event.setSummary("Edited " + event.getId() + " #" + version.get()), false);
+        }
+    }
+
+    private void populate(int eventsPerCalendar) {
+        // 1주일 전 ~ 3개월 후에 1시간짜리 이벤트를 고르게 배치 (동기화 범위와 동일)
+        Instant from = Instant.now().minus(7, ChronoUnit.DAYS).truncatedTo(ChronoUnit.HOURS);
+        long spanHours = Duration.ofDays(97).toHours();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (String calendarId : calendars.keySet()) {
+            for (int i = 0; i < eventsPerCalendar; i++) {
+                Instant start = from.plus(random.nextLong(spanHours), ChronoUnit.HOURS);
+                insert(calendarId, new Event()
+                        .setSummary("Synthetic event " + i)
+                        .setDescription("Generated for load testing")
+                        .setStart(dateTime(start))
+                        .setEnd(dateTime(start.plus(1, ChronoUnit.HOURS))));
+            }
+        }
+    }
+
+    private synchronized Event store(String calendarId, Event event, boolean cancelled) {
+        long next = version.incrementAndGet();
+        event.setEtag("\"" + next + "\"");
+        events.get(calendarId).put(event.getId(), new StoredEvent(event, next, cancelled));
+        return event;
+    }
+
+    private static EventDateTime dateTime(Instant instant) {
+        return new EventDateTime()
+                .setDateTime(new DateTime(instant.toEpochMilli()))
+                .setTimeZone("Asia/Seoul");
+    }
+
+    private static long start(Event event) {
+        return millis(event.getStart());
+    }
+
+    private static long end(Event event) {
+        return millis(event.getEnd());
+    }
+
+    private static long millis(EventDateTime dateTime) {
+        if (dateTime == null) {
+            return 0;
+        }
+        return dateTime.getDateTime() != null ? dateTime.getDateTime().getValue() : dateTime.getDate().getValue();
+    }
+
+    private record StoredEvent(Event event, long version, boolean cancelled) {
+    }
+}
@@ -0,0 +1,325 @@
+package com.devzip.commandstack.loadtest;
+
+import com.google.api.client.json.JsonFactory;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.util.DateTime;
+import com.google.api.services.calendar.model.CalendarList;
+import com.google.api.services.calendar.model.Event;
+import com.google.api.services.calendar.model.Events;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 로컬 가짜 Google 서버 (부하 테스트용)
+ * Calendar v3에서 우리가 쓰는 엔드포인트(calendarList, events list/insert/patch/delete, 배치)와
+ * OAuth 토큰 엔드포인트를 앱과 같은 프로세스의 별도 포트에서 흉내 냅니다.
+ * 요청마다 지연과 오류(503 backendError, 403 rateLimitExceeded)를 설정한 비율로 주입합니다.
+ * google.calendar.root-url / google.oauth.token-uri를 이 서버로 지정해 사용합니다.
+ */
+@Component
+@Profile("loadtest")
+@Slf4j
+public class FakeGoogleServer {
+
+    private static final JsonFactory JSON_FACTORY = GsonFactory.getDefaultInstance();
+    private static final String CALENDAR_PREFIX = "/calendar/v3/";
+    private static final String CRLF = "\r\n";
+
+    private final FakeCalendarStore store;
+    private final long latencyMillis;
+    private final long latencyJitterMillis;
+    private final double errorRate;
+    private final double rateLimitRate;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    public FakeGoogleServer(
+            FakeCalendarStore store,
+            @Value("${app.fake-google.port:8091}") int port,
+            @Value("${app.fake-google.threads:32}") int threads,
+            @Value("${app.fake-google.latency-ms:20}") long latencyMillis,
+            @Value("${app.fake-google.latency-jitter-ms:30}") long latencyJitterMillis,
+            @Value("${app.fake-google.error-rate:0.01}") double errorRate,
+            @Value("${app.fake-google.rate-limit-rate:0.01}") double rateLimitRate) throws IOException {
+        this.store = store;
+        this.latencyMillis = latencyMillis;
+        this.latencyJitterMillis = latencyJitterMillis;
+        this.errorRate = errorRate;
+        this.rateLimitRate = rateLimitRate;
+
+        this.executor = Executors.newFixedThreadPool(threads);
+        this.server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        server.createContext("/token", this::handleToken);
+        server.createContext("/batch/calendar/v3", this::handleBatch);
+        server.createContext(CALENDAR_PREFIX, this::handleCalendar);
+        server.setExecutor(executor);
+        server.start();
+        log.info("Fake Google server listening on http://localhost:{}/", server.getAddress().getPort());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    // ---- HTTP 핸들러 ----
+
+    private void handleToken(HttpExchange exchange) throws IOException {
+        simulateLatency();
+        Map<String, String> form = parseQuery(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+        FakeResponse response = injectFault();
+        if (response == null) {
+            if (!"refresh_token".equals(form.get("grant_type")) || form.get("refresh_token") == null) {
+                response = new FakeResponse(400, "{\"error\":\"invalid_grant\"}");
+            } else {
+                response = new FakeResponse(200, "{\"access_token\":\"fake-" + UUID.randomUUID()
+                        + "\",\"expires_in\":3600,\"token_type\":\"Bearer\"}");
+            }
+        }
+        send(exchange, response, "application/json; charset=UTF-8");
+    }
+
+    private void handleCalendar(HttpExchange exchange) throws IOException {
+        simulateLatency();
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        FakeResponse response = authorized(exchange) ? dispatch(exchange.getRequestMethod(), exchange.getRequestURI(), body)
+                : error(401, "authError", "Invalid Credentials");
+        send(exchange, response, "application/json; charset=UTF-8");
+    }
+
+    /**
+     * 배치 요청: multipart/mixed 본문의 각 파트를 개별 요청처럼 처리하고 같은 순서로 응답
+     * 지연은 배치 전체에 한 번, 오류는 파트마다 주입합니다.
+     */
+    private void handleBatch(HttpExchange exchange) throws IOException {
+        simulateLatency();
+        if (!authorized(exchange)) {
+            send(exchange, error(401, "authError", "Invalid Credentials"), "application/json; charset=UTF-8");
+            return;
+        }
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        String requestBoundary = "--" + contentType.substring(contentType.indexOf("boundary=") + 9).replace("\"", "");
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+
+        String responseBoundary = "batch_" + UUID.randomUUID().toString().replace("-", "");
+        StringBuilder out = new StringBuilder();
+        int index = 0;
+        for (String part : body.split(requestBoundary)) {
+            String trimmed = part.strip();
+            if (trimmed.isEmpty() || trimmed.equals("--")) {
+                continue;
+            }
+            // 파트 헤더 / HTTP 요청 줄 + 헤더 / 본문
+            String[] sections = trimmed.split("\r?\n\r?\n", 3);
+            String[] requestLine = sections[1].split("\r?\n")[0].split(" ");
+            String partBody = sections.length > 2 ? sections[2].strip() : "";
+
+            FakeResponse response = dispatch(requestLine[0], URI.create(requestLine[1]), partBody);
+            index++;
+            out.append("--").append(responseBoundary).append(CRLF)
+                    .append("Content-Type: application/http").append(CRLF)
+                    .append("Content-ID: <response-").append(index).append(">").append(CRLF)
+                    .append(CRLF)
+                    .append("HTTP/1.1 ").append(response.status()).append(" ").append(reason(response.status())).append(CRLF);
+            if (!response.body().isEmpty()) {
+                out.append("Content-Type: application/json; charset=UTF-8").append(CRLF);
+            }
+            out.append(CRLF).append(response.body()).append(CRLF);
+        }
+        out.append("--").append(responseBoundary).append("--").append(CRLF);
+
+        send(exchange, new FakeResponse(200, out.toString()), "multipart/mixed; boundary=" + responseBoundary);
+    }
+
+    // ---- Calendar v3 라우팅 ----
+
+    private FakeResponse dispatch(String method, URI uri, String body) throws IOException {
+        FakeResponse fault = injectFault();
+        if (fault != null) {
+            return fault;
+        }
+
+        String path = uri.getPath();
+        String resource = path.substring(path.indexOf(CALENDAR_PREFIX) + CALENDAR_PREFIX.length());
+        Map<String, String> query = parseQuery(uri.getRawQuery());
+
+        if (resource.equals("users/me/calendarList") && method.equals("GET")) {
+            return json(new CalendarList().setItems(store.calendars()));
+        }
+
+        // calendars/{calendarId}/events[/{eventId}]
+        String[] segments = resource.split("/");
+        if (segments.length < 3 || !segments[0].equals("calendars") || !segments[2].equals("events")) {
+            return error(404, "notFound", "Not Found");
+        }
+        String calendarId = store.resolve(segments[1]);
+        if (calendarId == null) {
+            return error(404, "notFound", "Not Found");
+        }
+
+        if (segments.length == 3) {
+            return switch (method) {
+                case "GET" -> listEvents(calendarId, query);
+                case "POST" -> json(store.insert(calendarId, JSON_FACTORY.fromString(body, Event.class)));
+                default -> error(405, "methodNotAllowed", "Method Not Allowed");
+            };
+        }
+
+        String eventId = segments[3];
+        return switch (method) {
+            case "PATCH" -> {
+                Event patched = store.patch(calendarId, eventId, JSON_FACTORY.fromString(body, Event.class));
+                yield patched != null ? json(patched) : error(404, "notFound", "Not Found");
+            }
+            // Google은 이미 삭제된 이벤트에 410을 반환
+            case "DELETE" -> store.delete(calendarId, eventId) ? new FakeResponse(204, "")
+                    : error(410, "deleted", "Resource has been deleted");
+            default -> error(405, "methodNotAllowed", "Method Not Allowed");
+        };
+    }
+
+    /**
+     * events.list: syncToken이 있으면 그 버전 이후 변경분, 없으면 timeMin~timeMax 범위
+     * pageToken은 결과 목록의 오프셋이고, nextSyncToken은 마지막 페이지에만 넣습니다.
+     */
+    private FakeResponse listEvents(String calendarId, Map<String, String> query) throws IOException {
+        long version = store.currentVersion();
+        List<Event> items;
+        String syncToken = query.get("syncToken");
+        if (syncToken != null) {
+            long since;
+            try {
+                since = Long.parseLong(syncToken);
+            } catch (NumberFormatException e) {
+                return error(410, "fullSyncRequired", "Sync token is no longer valid, a full sync is required.");
+            }
+            if (since > version) {
+                return error(410, "fullSyncRequired", "Sync token is no longer valid, a full sync is required.");
+            }
+            items = store.changesSince(calendarId, since);
+        } else {
+            items = store.list(calendarId, parseDateTime(query.get("timeMin")), parseDateTime(query.get("timeMax")));
+        }
+
+        int offset = query.containsKey("pageToken") ? Integer.parseInt(query.get("pageToken")) : 0;
+        int size = query.containsKey("maxResults") ? Integer.parseInt(query.get("maxResults")) : 250;
+        int to = Math.min(offset + size, items.size());
+
+        Events page = new Events().setItems(items.subList(Math.min(offset, to), to));
+        if (to < items.size()) {
+            page.setNextPageToken(String.valueOf(to));
+        } else {
+            page.setNextSyncToken(String.valueOf(version));
+        }
+        return json(page);
+    }
+
+    // ---- 장애 주입 ----
+
+    private void simulateLatency() {
+        long delay = latencyMillis + (latencyJitterMillis > 0 ? ThreadLocalRandom.current().nextLong(latencyJitterMillis + 1) : 0);
+        if (delay <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private FakeResponse injectFault() {
+        double roll = ThreadLocalRandom.current().nextDouble();
+        if (roll < errorRate) {
+            return error(503, "backendError", "Backend Error");
+        }
+        if (roll < errorRate + rateLimitRate) {
+            return error(403, "rateLimitExceeded", "Rate Limit Exceeded");
+        }
+        return null;
+    }
+
+    // ---- 유틸 ----
+
+    private static boolean authorized(HttpExchange exchange) {
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        return authorization != null && authorization.startsWith("Bearer ");
+    }
+
+    private static FakeResponse json(Object body) throws IOException {
+        return new FakeResponse(200, JSON_FACTORY.toString(body));
+    }
+
+    private static FakeResponse error(int status, String reason, String message) {
+        return new FakeResponse(status, "{\"error\":{\"code\":" + status + ",\"message\":\"" + message
+                + "\",\"errors\":[{\"domain\":\"global\",\"reason\":\"" + reason + "\",\"message\":\"" + message + "\"}]}}");
+    }
+
+    private static String reason(int status) {
+        return switch (status) {
+            case 200 -> "OK";
+            case 204 -> "No Content";
+            case 400 -> "Bad Request";
+            case 401 -> "Unauthorized";
+            case 403 -> "Forbidden";
+            case 404 -> "Not Found";
+            case 410 -> "Gone";
+            case 503 -> "Service Unavailable";
+            default -> "Error";
+        };
+    }
+
+    private static DateTime parseDateTime(String value) {
+        // 인코딩되지 않은 '+' 오프셋이 공백으로 디코딩된 경우 복원
+        return value != null ? DateTime.parseRfc3339(value.replace(' ', '+')) : null;
+    }
+
+    private static Map<String, String> parseQuery(String query) {
+        Map<String, String> params = new HashMap<>();
+        if (query == null || query.isEmpty()) {
+            return params;
+        }
+        for (String pair : query.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = URLDecoder.decode(eq < 0 ? pair : pair.substring(0, eq), StandardCharsets.UTF_8);
+            String value = eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            params.put(key, value);
+        }
+        return params;
+    }
+
+    private static void send(HttpExchange exchange, FakeResponse response, String contentType) throws IOException {
+        byte[] bytes = response.body().getBytes(StandardCharsets.UTF_8);
+        if (!response.body().isEmpty()) {
+            exchange.getResponseHeaders().set("Content-Type", contentType);
+        }
+        // 204는 본문 없이 (-1)
+        exchange.sendResponseHeaders(response.status(), bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private record FakeResponse(int status, String body) {
+    }
+}
@@ -0,0 +1,78 @@
+package com.devzip.commandstack.repository;
+
+import com.devzip.commandstack.domain.CalendarOutbox;
+import com.devzip.commandstack.domain.CalendarOutbox.Operation;
+import com.devzip.commandstack.domain.CalendarOutbox.Status;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 아웃박스 findDue의 Task별 순서 보장
+ */
+@DataJpaTest
+class CalendarOutboxRepositoryTest {
+
+    @Autowired
+    private CalendarOutboxRepository outboxRepository;
+
+    @Test
+    void returnsOnlyTheHeadEntryPerTaskInIdOrder() {
+        CalendarOutbox create1 = save(1L, Operation.CREATE, null);
+        CalendarOutbox create2 = save(2L, Operation.CREATE, null);
+        save(1L, Operation.UPDATE, null);
+        save(2L, Operation.DELETE, null);
+
+        assertThat(due(10)).containsExactly(create1.getId(), create2.getId());
+    }
+
+    @Test
+    void backedOffHeadBlocksLaterEntriesOfTheSameTask() {
+        save(1L, Operation.CREATE, LocalDateTime.now().plusMinutes(5));
+        save(1L, Operation.UPDATE, null);
+        CalendarOutbox other = save(2L, Operation.UPDATE, null);
+
+        assertThat(due(10)).containsExactly(other.getId());
+    }
+
+    @Test
+    void deadEntryDoesNotBlockLaterEntries() {
+        CalendarOutbox dead = save(1L, Operation.CREATE, null);
+        dead.deadLetter("400 Bad Request");
+        outboxRepository.saveAndFlush(dead);
+        CalendarOutbox update = save(1L, Operation.UPDATE, null);
+
+        assertThat(due(10)).containsExactly(update.getId());
+    }
+
+    @Test
+    void respectsLimit() {
+        CalendarOutbox first = save(1L, Operation.CREATE, null);
+        save(2L, Operation.CREATE, null);
+        save(3L, Operation.CREATE, null);
+
+        assertThat(due(1)).containsExactly(first.getId());
+    }
+
+    private List<Long> due(int limit) {
+        return outboxRepository.findDue(Status.PENDING, LocalDateTime.now().plusSeconds(1), Limit.of(limit))
+                .stream()
+                .map(CalendarOutbox::getId)
+                .toList();
+    }
+
+    private CalendarOutbox save(Long taskId, Operation operation, LocalDateTime nextAttemptAt) {
+        return outboxRepository.saveAndFlush(CalendarOutbox.builder()
+                .userId(1L)
+                .taskId(taskId)
+                .operation(operation)
+                .nextAttemptAt(nextAttemptAt)
+                .build());
+    }
+}
@@ -0,0 +1,165 @@
+package com.devzip.commandstack.repository;
+
+import com.devzip.commandstack.domain.Task;
+import com.devzip.commandstack.domain.Task.TaskStatus;
+import com.devzip.commandstack.domain.Task.TaskType;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TaskRepository 주요 조회가 선언한 인덱스를 사용하는지 H2 EXPLAIN으로 확인
+ * 각 finder를 실제로 실행해 Hibernate가 생성한 SQL을 StatementInspector로 잡고, 같은 값을 바인딩해 EXPLAIN 합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.devzip.commandstack.repository.TaskRepositoryIndexTest$CapturingInspector")
+class TaskRepositoryIndexTest {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private long lastId;
+
+    @BeforeEach
+    void setUp() {
+        // 완료 Task가 대부분인 핫 테이블 (보관 전 상태)
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 500; i++) {
+            TaskStatus status = i % 10 == 0 ? TaskStatus.PENDING : TaskStatus.EXIT_SUCCESS;
+            Task task = Task.builder()
+                    .syntax("task " + i)
+                    .status(status)
+                    .type(TaskType.TASK)
+                    .contextId((long) (i % 20))
+                    .deadline(now.plusHours(i))
+                    .googleEventId(i % 3 == 0 ? "event-" + i : null)
+                    .build();
+            entityManager.persist(task);
+            lastId = task.getId();
+        }
+        entityManager.flush();
+        entityManager.createNativeQuery("ANALYZE").executeUpdate();
+        CapturingInspector.statements.clear();
+    }
+
+    @Test
+    void findByStatusUsesStatusDeadlineIndex() {
+        taskRepository.findResponsesByStatus(TaskStatus.PENDING);
+
+        assertThat(explainCaptured(List.of(TaskStatus.PENDING.name())))
+                .containsIgnoringCase("idx_tasks_status_deadline");
+    }
+
+    @Test
+    void activeStatusInQueryUsesStatusDeadlineIndex() {
+        taskRepository.findResponsesByStatusIn(Task.ACTIVE_STATUSES);
+
+        assertThat(explainCaptured(statusNames()))
+                .containsIgnoringCase("idx_tasks_status_deadline");
+    }
+
+    @Test
+    void activeStatusKeysetPageAvoidsTableScan() {
+        taskRepository.findResponsesByStatusInAfter(Task.ACTIVE_STATUSES, lastId - PAGE_SIZE, Limit.of(PAGE_SIZE));
+
+        List<Object> values = new ArrayList<>(statusNames());
+        values.add(lastId - PAGE_SIZE);
+        assertThat(explainCaptured(values))
+                .doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    void deadlineOrderedQueryUsesStatusDeadlineIndex() {
+        taskRepository.findByStatusOrderByDeadlineAsc(TaskStatus.PENDING);
+
+        assertThat(explainCaptured(List.of(TaskStatus.PENDING.name())))
+                .containsIgnoringCase("idx_tasks_status_deadline");
+    }
+
+    @Test
+    void findByContextIdUsesContextStatusIndex() {
+        taskRepository.findResponsesByContextId(3L);
+
+        assertThat(explainCaptured(List.of(3L)))
+                .containsIgnoringCase("idx_tasks_context_status");
+    }
+
+    @Test
+    void findByGoogleEventIdInUsesGoogleEventIndex() {
+        List<String> eventIds = List.of("event-3", "event-6");
+        taskRepository.findByGoogleEventIdIn(eventIds);
+
+        assertThat(explainCaptured(new ArrayList<>(eventIds)))
+                .containsIgnoringCase("idx_tasks_google_event_id");
+    }
+
+    // finder가 바인딩한 순서대로의 상태 값 (EnumType.STRING)
+    private List<Object> statusNames() {
+        List<Object> names = new ArrayList<>();
+        Task.ACTIVE_STATUSES.forEach(status -> names.add(status.name()));
+        return names;
+    }
+
+    /**
+     * 마지막으로 실행된 SELECT를 values로 바인딩해 EXPLAIN
+     * values 뒤에 남는 자리는 방언이 붙인 limit(fetch first ? rows)이므로 페이지 크기를 넣습니다.
+     */
+    private String explainCaptured(List<Object> values) {
+        String sql = CapturingInspector.lastSelect();
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                int count = statement.getParameterMetaData().getParameterCount();
+                for (int i = 0; i < count; i++) {
+                    statement.setObject(i + 1, i < values.size() ? values.get(i) : PAGE_SIZE);
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    return resultSet.getString(1);
+                }
+            }
+        });
+    }
+
+    /**
+     * Hibernate가 JDBC로 보내는 SQL을 그대로 기록 (SQL은 바꾸지 않음)
+     */
+    public static class CapturingInspector implements StatementInspector {
+
+        static final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+
+        static String lastSelect() {
+            for (int i = statements.size() - 1; i >= 0; i--) {
+                String sql = statements.get(i);
+                if (sql.stripLeading().regionMatches(true, 0, "select", 0, "select".length())) {
+                    return sql;
+                }
+            }
+            throw new IllegalStateException("No SELECT captured");
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.devzip.commandstack.service;
+
+import com.devzip.commandstack.dto.response.GoogleCalendarEventResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * CalendarEventCache 구간 병합과 하위 범위 응답, 무효화 세대
+ */
+class CalendarEventCacheTest {
+
+    private static final Long USER_ID = 1L;
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 5, 0, 0);
+
+    private final CalendarEventCache cache = new CalendarEventCache(300, new SimpleMeterRegistry());
+
+    @Test
+    void subRangeIsServedFromCachedSegment() {
+        put(0, 10, event("a", "primary", 2), event("b", "primary", 8));
+
+        assertThat(ids(cache.get(USER_ID, at(0), at(5)))).containsExactly("a");
+        assertThat(ids(cache.get(USER_ID, at(0), at(10)))).containsExactly("a", "b");
+        assertThat(cache.get(USER_ID, at(5), at(11))).isNull();
+    }
+
+    @Test
+    void adjacentSegmentsMergeIntoOne() {
+        put(0, 10, event("a", "primary", 2));
+        put(10, 20, event("b", "primary", 15));
+
+        assertThat(ids(cache.get(USER_ID, at(5), at(18)))).containsExactly("b");
+        assertThat(ids(cache.get(USER_ID, at(0), at(20)))).containsExactly("a", "b");
+    }
+
+    @Test
+    void disjointSegmentsDoNotCoverTheGap() {
+        put(0, 10, event("a", "primary", 2));
+        put(20, 30, event("b", "primary", 25));
+
+        assertThat(cache.get(USER_ID, at(5), at(25))).isNull();
+        assertThat(ids(cache.get(USER_ID, at(20), at(30)))).containsExactly("b");
+    }
+
+    @Test
+    void overlappingFetchReplacesEventsInsideItsRangeOnly() {
+        put(0, 10, event("a", "primary", 2), event("b", "primary", 8));
+        // b는 삭제되고 c가 생김 (5 ~ 15 재조회)
+        put(5, 15, event("c", "primary", 12));
+
+        assertThat(ids(cache.get(USER_ID, at(0), at(15)))).containsExactly("a", "c");
+    }
+
+    @Test
+    void sameEventIdInDifferentCalendarsIsKeptSeparately() {
+        put(0, 10, event("x", "primary", 2), event("x", "team@group.calendar.google.com", 4));
+        put(5, 15, event("y", "primary", 12));
+
+        assertThat(cache.get(USER_ID, at(0), at(15)))
+                .extracting(GoogleCalendarEventResponse::getId, GoogleCalendarEventResponse::getCalendarId)
+                .containsExactly(
+                        tuple("x", "primary"),
+                        tuple("x", "team@group.calendar.google.com"),
+                        tuple("y", "primary"));
+    }
+
+    @Test
+    void fetchStartedBeforeInvalidateIsNotStored() {
+        long generation = cache.generation(USER_ID);
+        cache.invalidate(USER_ID);
+
+        cache.put(USER_ID, generation, at(0), at(10), List.of(event("a", "primary", 2)));
+
+        assertThat(cache.get(USER_ID, at(0), at(10))).isNull();
+    }
+
+    @Test
+    void invalidateDropsCachedSegments() {
+        put(0, 10, event("a", "primary", 2));
+
+        cache.invalidate(USER_ID);
+
+        assertThat(cache.get(USER_ID, at(0), at(10))).isNull();
+        put(0, 10, event("b", "primary", 2));
+        assertThat(ids(cache.get(USER_ID, at(0), at(10)))).containsExactly("b");
+    }
+
+    private void put(long fromHours, long toHours, GoogleCalendarEventResponse... events) {
+        cache.put(USER_ID, cache.generation(USER_ID), at(fromHours), at(toHours), List.of(events));
+    }
+
+    private static List<String> ids(List<GoogleCalendarEventResponse> events) {
+        return events.stream().map(GoogleCalendarEventResponse::getId).toList();
+    }
+
+    private static LocalDateTime at(long hours) {
+        return BASE.plusHours(hours);
+    }
+
+    // 1시간짜리 이벤트
+    private static GoogleCalendarEventResponse event(String id, String calendarId, long startHours) {
+        return GoogleCalendarEventResponse.builder()
+                .id(id)
+                .calendarId(calendarId)
+                .summary("event " + id)
+                .start(rfc3339(at(startHours)))
+                .end(rfc3339(at(startHours + 1)))
+                .build();
+    }
+
+    private static String rfc3339(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toOffsetDateTime().toString();
+    }
+}
@@ -0,0 +1,164 @@
+package com.devzip.commandstack.service;
+
+import com.devzip.commandstack.domain.CalendarOutbox;
+import com.devzip.commandstack.domain.CalendarOutbox.Operation;
+import com.devzip.commandstack.domain.CalendarOutbox.Status;
+import com.devzip.commandstack.domain.Task;
+import com.devzip.commandstack.domain.Task.TaskStatus;
+import com.devzip.commandstack.domain.Task.TaskType;
+import com.devzip.commandstack.domain.User;
+import com.devzip.commandstack.repository.CalendarOutboxRepository;
+import com.devzip.commandstack.repository.TaskRepository;
+import com.devzip.commandstack.repository.UserRepository;
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponseException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 아웃박스 예약과 전달 실패 처리: 대기 중인 CREATE 뒤 편집, 백오프 재시도와 maxAttempts 이후 DEAD 전환
+ */
+class CalendarOutboxServiceTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long BASE_BACKOFF_SECONDS = 5;
+
+    private final CalendarOutboxRepository outboxRepository = mock(CalendarOutboxRepository.class);
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final GoogleCalendarService googleCalendarService = mock(GoogleCalendarService.class);
+
+    private final User user = User.builder().id(1L).googleId("google-1").email("user@example.com").build();
+    private CalendarOutboxService outboxService;
+
+    @BeforeEach
+    void setUp() {
+        outboxService = new CalendarOutboxService(outboxRepository, taskRepository, userRepository,
+                googleCalendarService, mock(TaskReadModels.class), mock(DataVersion.class),
+                mock(ChangeEventPublisher.class), mock(TransactionTemplate.class), new SimpleMeterRegistry(),
+                50, MAX_ATTEMPTS, BASE_BACKOFF_SECONDS, 1800);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(taskRepository.findAllById(any())).thenReturn(List.of(task(10L)));
+    }
+
+    @Test
+    void retryableFailureBacksOffExponentially() throws IOException {
+        CalendarOutbox entry = entry(1);
+        when(googleCalendarService.writeEvents(eq(user), any())).thenThrow(httpError(503));
+
+        LocalDateTime before = LocalDateTime.now();
+        drain(entry);
+
+        // 두 번째 실패: base * 2
+        assertThat(entry.getStatus()).isEqualTo(Status.PENDING);
+        assertThat(entry.getAttempts()).isEqualTo(2);
+        assertThat(entry.getNextAttemptAt()).isAfterOrEqualTo(before.plusSeconds(BASE_BACKOFF_SECONDS * 2));
+        assertThat(entry.getLastError()).contains("503");
+        verify(outboxRepository).save(entry);
+    }
+
+    @Test
+    void exhaustingAttemptsMovesEntryToDead() throws IOException {
+        CalendarOutbox entry = entry(MAX_ATTEMPTS - 1);
+        when(googleCalendarService.writeEvents(eq(user), any())).thenThrow(httpError(503));
+
+        drain(entry);
+
+        assertThat(entry.getStatus()).isEqualTo(Status.DEAD);
+        assertThat(entry.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+        verify(outboxRepository).save(entry);
+    }
+
+    @Test
+    void nonRetryableClientErrorIsDeadImmediately() throws IOException {
+        CalendarOutbox entry = entry(0);
+        when(googleCalendarService.writeEvents(eq(user), any())).thenThrow(httpError(400));
+
+        drain(entry);
+
+        assertThat(entry.getStatus()).isEqualTo(Status.DEAD);
+        assertThat(entry.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    void rateLimitedFailureIsRetried() throws IOException {
+        CalendarOutbox entry = entry(0);
+        when(googleCalendarService.writeEvents(eq(user), any())).thenThrow(httpError(429));
+
+        drain(entry);
+
+        assertThat(entry.getStatus()).isEqualTo(Status.PENDING);
+        assertThat(entry.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    void editWhileCreateIsQueuedEnqueuesUpdateBehindIt() {
+        when(outboxRepository.existsByTaskIdAndOperationAndStatus(10L, Operation.CREATE, Status.PENDING))
+                .thenReturn(true);
+
+        outboxService.enqueueCreate(1L, 10L);
+
+        ArgumentCaptor<CalendarOutbox> saved = ArgumentCaptor.forClass(CalendarOutbox.class);
+        verify(outboxRepository).save(saved.capture());
+        assertThat(saved.getValue().getOperation()).isEqualTo(Operation.UPDATE);
+    }
+
+    @Test
+    void firstCreateIsEnqueuedAsCreate() {
+        outboxService.enqueueCreate(1L, 10L);
+
+        ArgumentCaptor<CalendarOutbox> saved = ArgumentCaptor.forClass(CalendarOutbox.class);
+        verify(outboxRepository).save(saved.capture());
+        assertThat(saved.getValue().getOperation()).isEqualTo(Operation.CREATE);
+    }
+
+    private void drain(CalendarOutbox entry) {
+        when(outboxRepository.findDue(eq(Status.PENDING), any(), any()))
+                .thenReturn(List.of(entry))
+                .thenReturn(List.of());
+        outboxService.drain();
+    }
+
+    private static CalendarOutbox entry(int attempts) {
+        return CalendarOutbox.builder()
+                .id(100L)
+                .userId(1L)
+                .taskId(10L)
+                .operation(Operation.UPDATE)
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static Task task(Long id) {
+        return Task.builder()
+                .id(id)
+                .syntax("task " + id)
+                .status(TaskStatus.PENDING)
+                .type(TaskType.TASK)
+                .contextId(1L)
+                .syncToGoogle(true)
+                .googleEventId("event-" + id)
+                .build();
+    }
+
+    private static HttpResponseException httpError(int statusCode) {
+        return new HttpResponseException.Builder(statusCode, "HTTP " + statusCode, new HttpHeaders()).build();
+    }
+}
@@ -0,0 +1,93 @@
+package com.devzip.commandstack.service;
+
+import com.devzip.commandstack.domain.Task.TaskStatus;
+import com.devzip.commandstack.repository.ArchivedTaskRepository;
+import com.devzip.commandstack.repository.TaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * ContextTaskCounters 증감 반영과 재계산 경합
+ * 트랜잭션은 TransactionSynchronizationManager로 흉내 내어 beforeCommit / afterCompletion을 직접 호출합니다.
+ */
+class ContextTaskCountersTest {
+
+    private static final Long CONTEXT_ID = 1L;
+
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final ArchivedTaskRepository archivedTaskRepository = mock(ArchivedTaskRepository.class);
+    private final ContextTaskCounters counters = new ContextTaskCounters(taskRepository, archivedTaskRepository);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void changedOutsideTransactionAppliesImmediately() {
+        counters.changed(null, null, CONTEXT_ID, TaskStatus.PENDING);
+        counters.changed(CONTEXT_ID, TaskStatus.PENDING, CONTEXT_ID, TaskStatus.EXECUTING);
+
+        assertThat(counters.get(CONTEXT_ID)[TaskStatus.PENDING.ordinal()]).isZero();
+        assertThat(counters.get(CONTEXT_ID)[TaskStatus.EXECUTING.ordinal()]).isEqualTo(1);
+    }
+
+    @Test
+    void rolledBackWriteIsNotApplied() {
+        List<TransactionSynchronization> write = beginWrite(() ->
+                counters.changed(null, null, CONTEXT_ID, TaskStatus.PENDING));
+
+        write.forEach(sync -> sync.beforeCommit(false));
+        write.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(counters.get(CONTEXT_ID)[TaskStatus.PENDING.ordinal()]).isZero();
+    }
+
+    @Test
+    void reconcileDoesNotInstallWhileCommittedWriteAwaitsItsDelta() {
+        // 집계에는 이미 커밋된 쓰기(PENDING 1건)가 포함됨
+        when(taskRepository.countGroupByContextIdAndStatus())
+                .thenReturn(rows(CONTEXT_ID, TaskStatus.PENDING, 1L));
+        when(archivedTaskRepository.countGroupByContextIdAndStatus()).thenReturn(List.of());
+
+        List<TransactionSynchronization> write = beginWrite(() ->
+                counters.changed(null, null, CONTEXT_ID, TaskStatus.PENDING));
+        write.forEach(sync -> sync.beforeCommit(false));
+
+        counters.reconcile();
+        assertThat(counters.get(CONTEXT_ID)[TaskStatus.PENDING.ordinal()]).isZero();
+
+        write.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        counters.reconcile();
+
+        assertThat(counters.get(CONTEXT_ID)[TaskStatus.PENDING.ordinal()]).isEqualTo(1);
+    }
+
+    // 트랜잭션 안에서 action을 실행하고 등록된 synchronization을 돌려줌 (스레드 로컬은 정리)
+    private List<TransactionSynchronization> beginWrite(Runnable action) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            action.run();
+            return new ArrayList<>(TransactionSynchronizationManager.getSynchronizations());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private List<Object[]> rows(Long contextId, TaskStatus status, long count) {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{contextId, status, count});
+        return rows;
+    }
+}
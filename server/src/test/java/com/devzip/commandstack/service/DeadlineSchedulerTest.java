@@ -0,0 +1,158 @@
+package com.devzip.commandstack.service;
+
+import com.devzip.commandstack.domain.Task.TaskStatus;
+import com.devzip.commandstack.dto.response.TaskResponse;
+import com.devzip.commandstack.repository.TaskIndexRow;
+import com.devzip.commandstack.service.DeadlineScheduler.Kind;
+import com.devzip.commandstack.service.DeadlineScheduler.Trigger;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * DeadlineScheduler 예약/취소/재예약
+ * 트랜잭션 밖에서는 upsert/remove가 즉시 반영됩니다. 알림 발행을 확인하는 테스트만 작업 스레드를 시작합니다.
+ */
+class DeadlineSchedulerTest {
+
+    private static final long LEAD_MINUTES = 30;
+
+    private final ChangeEventPublisher publisher = mock(ChangeEventPublisher.class);
+    private final DeadlineScheduler scheduler = new DeadlineScheduler(publisher, LEAD_MINUTES, new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        scheduler.stop();
+    }
+
+    @Test
+    void upsertSchedulesApproachingAndOverdue() {
+        LocalDateTime deadline = LocalDateTime.now().plusHours(2);
+
+        scheduler.upsert(task(1L, TaskStatus.PENDING, deadline));
+
+        assertThat(scheduler.scheduledTriggers())
+                .extracting(Trigger::taskId, Trigger::kind, Trigger::fireAt)
+                .containsExactly(
+                        tuple(1L, Kind.APPROACHING, deadline.minusMinutes(LEAD_MINUTES)),
+                        tuple(1L, Kind.OVERDUE, deadline));
+    }
+
+    @Test
+    void deadlineInsideLeadSchedulesOnlyOverdue() {
+        LocalDateTime deadline = LocalDateTime.now().plusMinutes(10);
+
+        scheduler.upsert(task(1L, TaskStatus.PENDING, deadline));
+
+        assertThat(scheduler.scheduledTriggers()).extracting(Trigger::kind).containsExactly(Kind.OVERDUE);
+    }
+
+    @Test
+    void changedDeadlineReplacesPreviousTriggers() {
+        LocalDateTime first = LocalDateTime.now().plusHours(2);
+        LocalDateTime second = LocalDateTime.now().plusHours(5);
+
+        scheduler.upsert(task(1L, TaskStatus.PENDING, first));
+        scheduler.upsert(task(1L, TaskStatus.EXECUTING, second));
+
+        assertThat(scheduler.scheduledTriggers())
+                .extracting(Trigger::deadline)
+                .containsOnly(second)
+                .hasSize(2);
+    }
+
+    @Test
+    void unchangedDeadlineIsNotRescheduled() {
+        LocalDateTime deadline = LocalDateTime.now().plusHours(2);
+
+        scheduler.upsert(task(1L, TaskStatus.PENDING, deadline));
+        scheduler.upsert(task(1L, TaskStatus.EXECUTING, deadline));
+
+        assertThat(scheduler.scheduledTriggers()).hasSize(2);
+    }
+
+    @Test
+    void finishedOrClearedDeadlineCancelsTriggers() {
+        LocalDateTime deadline = LocalDateTime.now().plusHours(2);
+        scheduler.upsert(task(1L, TaskStatus.PENDING, deadline));
+        scheduler.upsert(task(2L, TaskStatus.PENDING, deadline));
+        scheduler.upsert(task(3L, TaskStatus.PENDING, deadline));
+
+        scheduler.upsert(task(1L, TaskStatus.EXIT_SUCCESS, deadline));
+        scheduler.upsert(task(2L, TaskStatus.PENDING, null));
+        scheduler.remove(3L);
+
+        assertThat(scheduler.scheduledTriggers()).isEmpty();
+    }
+
+    @Test
+    void cancelledTaskCanBeScheduledAgain() {
+        LocalDateTime deadline = LocalDateTime.now().plusHours(2);
+        scheduler.upsert(task(1L, TaskStatus.PENDING, deadline));
+        scheduler.remove(1L);
+
+        scheduler.upsert(task(1L, TaskStatus.PENDING, deadline));
+
+        assertThat(scheduler.scheduledTriggers()).hasSize(2);
+    }
+
+    @Test
+    void startupLoadSkipsPastFinishedAndUndatedTasks() {
+        LocalDateTime future = LocalDateTime.now().plusHours(2);
+
+        scheduler.add(row(1L, TaskStatus.PENDING, future));
+        scheduler.add(row(2L, TaskStatus.PENDING, LocalDateTime.now().minusHours(1)));
+        scheduler.add(row(3L, TaskStatus.SIGKILL, future));
+        scheduler.add(row(4L, TaskStatus.EXECUTING, null));
+
+        assertThat(scheduler.scheduledTriggers()).extracting(Trigger::taskId).containsOnly(1L);
+    }
+
+    @Test
+    void startupLoadKeepsDeadlineWrittenDuringLoad() {
+        LocalDateTime written = LocalDateTime.now().plusHours(5);
+
+        scheduler.upsert(task(1L, TaskStatus.PENDING, written));
+        scheduler.add(row(1L, TaskStatus.PENDING, LocalDateTime.now().plusHours(2)));
+
+        assertThat(scheduler.scheduledTriggers()).extracting(Trigger::deadline).containsOnly(written);
+    }
+
+    @Test
+    void pastDeadlineFromWriteFiresOverdueOnce() {
+        LocalDateTime deadline = LocalDateTime.now().minusMinutes(1);
+        scheduler.start();
+
+        scheduler.upsert(task(1L, TaskStatus.PENDING, deadline));
+
+        verify(publisher, timeout(2_000)).publishTask(
+                eq(DeadlineScheduler.ACTION_OVERDUE), eq(1L), eq(Map.of("deadline", deadline)));
+        verify(publisher, never()).publishTask(eq(DeadlineScheduler.ACTION_DEADLINE_APPROACHING), any(), any());
+        assertThat(scheduler.scheduledTriggers()).isEmpty();
+    }
+
+    private static TaskResponse task(Long id, TaskStatus status, LocalDateTime deadline) {
+        return TaskResponse.builder()
+                .id(id)
+                .syntax("task " + id)
+                .status(status)
+                .deadline(deadline)
+                .build();
+    }
+
+    private static TaskIndexRow row(Long id, TaskStatus status, LocalDateTime deadline) {
+        return new TaskIndexRow(id, "task " + id, null, status, null, deadline);
+    }
+}
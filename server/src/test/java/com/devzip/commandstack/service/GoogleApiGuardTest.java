@@ -0,0 +1,95 @@
+package com.devzip.commandstack.service;
+
+import com.devzip.commandstack.service.GoogleApiGuard.CircuitState;
+import com.devzip.commandstack.service.GoogleApiGuard.UnavailableException;
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponseException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * GoogleApiGuard 서킷 브레이커 시험 호출과 항목별 실패 반영
+ * 재시도 없이(maxAttempts=1) 실패 1회에 서킷이 열리고, 열린 시간 0초로 다음 호출이 바로 시험 호출이 됩니다.
+ */
+class GoogleApiGuardTest {
+
+    private GoogleApiGuard guard(long openSeconds) {
+        return new GoogleApiGuard(new SimpleMeterRegistry(), 10, 1, 20, 1000, 1, 1, 1, 1, openSeconds);
+    }
+
+    @Test
+    void serverFailureOpensCircuitAndRejectsCalls() {
+        GoogleApiGuard guard = guard(60);
+
+        assertThatThrownBy(() -> guard.call("test", this::serverFailure)).isInstanceOf(IOException.class);
+
+        assertThat(guard.circuitState()).isEqualTo(CircuitState.OPEN);
+        assertThatThrownBy(() -> guard.call("test", () -> "ok")).isInstanceOf(UnavailableException.class);
+    }
+
+    @Test
+    void successfulTrialClosesCircuit() throws IOException {
+        GoogleApiGuard guard = guard(0);
+        assertThatThrownBy(() -> guard.call("test", this::serverFailure)).isInstanceOf(IOException.class);
+
+        assertThat(guard.call("test", () -> "ok")).isEqualTo("ok");
+        assertThat(guard.circuitState()).isEqualTo(CircuitState.CLOSED);
+    }
+
+    @Test
+    void runtimeExceptionDuringTrialReleasesTrialPermit() throws IOException {
+        GoogleApiGuard guard = guard(0);
+        assertThatThrownBy(() -> guard.call("test", this::serverFailure)).isInstanceOf(IOException.class);
+
+        assertThatThrownBy(() -> guard.call("test", () -> {
+            throw new IllegalStateException("unexpected");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // 시험 호출 권한이 반납되어 다음 시험 호출이 가능해야 함
+        assertThat(guard.circuitState()).isEqualTo(CircuitState.HALF_OPEN);
+        assertThat(guard.call("test", () -> "ok")).isEqualTo("ok");
+        assertThat(guard.circuitState()).isEqualTo(CircuitState.CLOSED);
+    }
+
+    @Test
+    void rateLimitedBatchItemLowersRate() {
+        GoogleApiGuard guard = guard(60);
+
+        guard.recordItemFailure(httpError(429));
+
+        assertThat(guard.currentRate()).isEqualTo(5);
+        assertThat(guard.circuitState()).isEqualTo(CircuitState.CLOSED);
+    }
+
+    @Test
+    void serverErrorBatchItemCountsTowardsCircuit() {
+        GoogleApiGuard guard = guard(60);
+
+        guard.recordItemFailure(httpError(503));
+
+        assertThat(guard.circuitState()).isEqualTo(CircuitState.OPEN);
+    }
+
+    @Test
+    void clientErrorBatchItemIsIgnored() {
+        GoogleApiGuard guard = guard(60);
+
+        guard.recordItemFailure(httpError(404));
+
+        assertThat(guard.circuitState()).isEqualTo(CircuitState.CLOSED);
+        assertThat(guard.currentRate()).isEqualTo(10);
+    }
+
+    private String serverFailure() throws IOException {
+        throw httpError(503);
+    }
+
+    private static HttpResponseException httpError(int statusCode) {
+        return new HttpResponseException.Builder(statusCode, "HTTP " + statusCode, new HttpHeaders()).build();
+    }
+}
@@ -0,0 +1,127 @@
+package com.devzip.commandstack.service;
+
+import com.devzip.commandstack.dto.response.TaskResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TaskIntervalIndex 삽입/삭제/겹침 조회 (구간은 양 끝 포함)
+ * 트랜잭션 밖에서는 index/remove가 즉시 반영됩니다.
+ */
+class TaskIntervalIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 5, 9, 0);
+
+    private final TaskIntervalIndex index = new TaskIntervalIndex();
+
+    @Test
+    void findsOverlappingIntervalsInStartOrder() {
+        index.index(task(1L, at(60), at(120)));
+        index.index(task(2L, at(0), at(30)));
+        index.index(task(3L, at(90), at(200)));
+        index.index(task(4L, at(300), at(400)));
+
+        assertThat(index.findOverlapping(at(20), at(100))).containsExactly(2L, 1L, 3L);
+        assertThat(index.findOverlapping(at(500), at(600))).isEmpty();
+    }
+
+    @Test
+    void boundaryEqualIntervalsOverlap() {
+        index.index(task(1L, at(60), at(120)));
+
+        // 조회 끝 == 구간 시작, 조회 시작 == 구간 끝
+        assertThat(index.findOverlapping(at(0), at(60))).containsExactly(1L);
+        assertThat(index.findOverlapping(at(120), at(180))).containsExactly(1L);
+        assertThat(index.findOverlapping(at(60), at(120))).containsExactly(1L);
+        assertThat(index.findOverlapping(at(0), at(60).minusNanos(1_000_000))).isEmpty();
+        assertThat(index.findOverlapping(at(120).plusNanos(1_000_000), at(180))).isEmpty();
+    }
+
+    @Test
+    void identicalIntervalsAreKeptPerTask() {
+        index.index(task(2L, at(60), at(120)));
+        index.index(task(1L, at(60), at(120)));
+        index.index(task(3L, at(60), at(120)));
+
+        assertThat(index.findOverlapping(at(120), at(120))).containsExactly(1L, 2L, 3L);
+
+        index.remove(2L);
+        assertThat(index.findOverlapping(at(0), at(200))).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void singlePointTasksUseTheDateTheyHave() {
+        index.index(task(1L, null, at(60)));
+        index.index(task(2L, at(90), null));
+        index.index(task(3L, null, null));
+
+        assertThat(index.findOverlapping(at(60), at(60))).containsExactly(1L);
+        assertThat(index.findOverlapping(at(0), at(100))).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void reindexMovesTaskAndRemoveDeletesIt() {
+        index.index(task(1L, at(0), at(30)));
+        index.index(task(1L, at(200), at(260)));
+
+        assertThat(index.findOverlapping(at(0), at(30))).isEmpty();
+        assertThat(index.findOverlapping(at(250), at(250))).containsExactly(1L);
+
+        index.remove(1L);
+        index.remove(99L);
+        assertThat(index.findOverlapping(at(0), at(1000))).isEmpty();
+    }
+
+    @Test
+    void matchesBruteForceAfterRandomInsertsAndDeletes() {
+        Random random = new Random(42);
+        Map<Long, long[]> expected = new HashMap<>();
+
+        for (int i = 0; i < 2000; i++) {
+            long taskId = random.nextInt(500);
+            if (random.nextInt(4) == 0) {
+                index.remove(taskId);
+                expected.remove(taskId);
+                continue;
+            }
+            long start = random.nextInt(10_000);
+            long end = start + random.nextInt(300);
+            index.index(task(taskId, at(start), at(end)));
+            expected.put(taskId, new long[] { start, end });
+        }
+
+        for (int i = 0; i < 200; i++) {
+            long queryStart = random.nextInt(10_000);
+            long queryEnd = queryStart + random.nextInt(500);
+            List<Long> brute = new ArrayList<>();
+            expected.forEach((taskId, interval) -> {
+                if (interval[0] <= queryEnd && interval[1] >= queryStart) {
+                    brute.add(taskId);
+                }
+            });
+            assertThat(index.findOverlapping(at(queryStart), at(queryEnd)))
+                    .containsExactlyInAnyOrderElementsOf(brute);
+        }
+    }
+
+    private static LocalDateTime at(long minutes) {
+        return BASE.plusMinutes(minutes);
+    }
+
+    private static TaskResponse task(Long id, LocalDateTime startedAt, LocalDateTime deadline) {
+        return TaskResponse.builder()
+                .id(id)
+                .syntax("task " + id)
+                .startedAt(startedAt)
+                .deadline(deadline)
+                .build();
+    }
+}
@@ -0,0 +1,90 @@
+package com.devzip.commandstack.service;
+
+import com.devzip.commandstack.service.TaskSearchIndex.Hit;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TaskSearchIndex BM25 순위와 마지막 토큰 접두어 매칭
+ * 트랜잭션 밖에서는 index/remove가 즉시 반영됩니다.
+ */
+class TaskSearchIndexTest {
+
+    private final TaskSearchIndex index = new TaskSearchIndex();
+
+    @Test
+    void syntaxMatchOutranksDetailsMatch() {
+        index.index(1L, "notes", "deploy server");
+        index.index(2L, "deploy server", "notes");
+
+        assertThat(ids(index.search("deploy"))).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void rareTermOutranksCommonTerm() {
+        index.index(1L, "weekly report", null);
+        index.index(2L, "weekly sync", null);
+        index.index(3L, "weekly review", null);
+        index.index(4L, "monthly report", null);
+
+        // report는 2건, weekly는 3건에 등장하므로 두 토큰을 모두 가진 1번이 가장 높고, 희귀한 report만 가진 4번이 그다음
+        List<Hit> hits = index.search("weekly report");
+        assertThat(ids(hits)).startsWith(1L, 4L);
+        assertThat(hits.get(1).score()).isGreaterThan(hits.get(2).score());
+    }
+
+    @Test
+    void shorterDocumentOutranksLongerDocumentForSameTerm() {
+        index.index(1L, "backup", "nightly database backup with retention and checksum verification");
+        index.index(2L, "backup", null);
+
+        assertThat(ids(index.search("backup"))).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void lastTermMatchesAsPrefix() {
+        index.index(1L, "Deploy server", null);
+        index.index(2L, "Deployment notes", null);
+        index.index(3L, "Write docs", null);
+
+        assertThat(ids(index.search("depl"))).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(ids(index.search("DEPLOYMENT"))).containsExactly(2L);
+    }
+
+    @Test
+    void onlyLastTermIsPrefixMatched() {
+        index.index(1L, "Deploy server", null);
+        index.index(2L, "Deployment notes", null);
+
+        // 앞 토큰 depl은 정확히 일치하는 토큰이 없고, 마지막 토큰 no만 notes에 접두어로 매칭
+        assertThat(ids(index.search("depl no"))).containsExactly(2L);
+        assertThat(ids(index.search("deploy no"))).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void reindexAndRemoveDropOldPostings() {
+        index.index(1L, "deploy server", null);
+        index.index(2L, "deploy client", null);
+
+        index.index(1L, "write docs", null);
+        index.remove(2L);
+
+        assertThat(index.search("deploy")).isEmpty();
+        assertThat(ids(index.search("docs"))).containsExactly(1L);
+    }
+
+    @Test
+    void blankQueryReturnsNothing() {
+        index.index(1L, "deploy", null);
+
+        assertThat(index.search("  ")).isEmpty();
+        assertThat(index.search("--")).isEmpty();
+    }
+
+    private static List<Long> ids(List<Hit> hits) {
+        return hits.stream().map(Hit::taskId).toList();
+    }
+}